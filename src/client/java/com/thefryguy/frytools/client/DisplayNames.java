@@ -0,0 +1,28 @@
+package com.thefryguy.frytools.client;
+
+/**
+ * Readable names for registry ids.
+ */
+public final class DisplayNames {
+    private DisplayNames() {
+    }
+
+    /**
+     * Turns e.g. {@code glow_item_frame} into {@code Glow Item Frame}.
+     */
+    public static String fromPath(String path) {
+        StringBuilder name = new StringBuilder(path.length());
+        boolean startOfWord = true;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '_') {
+                name.append(' ');
+                startOfWord = true;
+            } else {
+                name.append(startOfWord ? Character.toUpperCase(c) : c);
+                startOfWord = false;
+            }
+        }
+        return name.toString();
+    }
+}
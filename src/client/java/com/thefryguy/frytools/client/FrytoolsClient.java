@@ -1,5 +1,16 @@
 package com.thefryguy.frytools.client;
 
+import com.thefryguy.frytools.client.command.CommandBatchRunner;
+import com.thefryguy.frytools.client.entity.EntityHistory;
+import com.thefryguy.frytools.client.entity.EntityTracker;
+import com.thefryguy.frytools.client.perf.ChunkMetrics;
+import com.thefryguy.frytools.client.perf.LatencyTracker;
+import com.thefryguy.frytools.client.perf.PacketCounters;
+import com.thefryguy.frytools.client.perf.TpsEstimator;
+import com.thefryguy.frytools.client.scan.ScanScheduler;
+import com.thefryguy.frytools.client.scan.SignArchive;
+import com.thefryguy.frytools.client.scan.SignIndex;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
 import com.thefryguy.frytools.client.window.FryToolsWindow;
 import net.fabricmc.api.ClientModInitializer;
 
@@ -7,6 +18,17 @@ public class FrytoolsClient implements ClientModInitializer {
     @Override
     public void onInitializeClient() {
         // This runs when the CLIENT starts
+        SignIndex.getInstance().register();
+        ScanScheduler.getInstance().register();
+        SignArchive.getInstance().register();
+        EntityTracker.getInstance().register();
+        EntityHistory.getInstance().register();
+        SnapshotService.getInstance().register();
+        TpsEstimator.getInstance().register();
+        PacketCounters.getInstance().register();
+        LatencyTracker.getInstance().register();
+        ChunkMetrics.getInstance().register();
+        CommandBatchRunner.getInstance().register();
         FryToolsWindow.start(); // Launch our window immediately
     }
 }
\ No newline at end of file
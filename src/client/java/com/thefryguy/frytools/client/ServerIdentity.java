@@ -0,0 +1,26 @@
+package com.thefryguy.frytools.client;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ServerInfo;
+
+/**
+ * Names the world the client is connected to, for exports and per-server storage.
+ */
+public final class ServerIdentity {
+    private ServerIdentity() {
+    }
+
+    /**
+     * Server address for multiplayer, {@code singleplayer:<level name>} for local worlds.
+     */
+    public static String currentServerName(MinecraftClient client) {
+        ServerInfo server = client.getCurrentServerEntry();
+        if (server != null) return server.address;
+        if (client.getServer() != null) return "singleplayer:" + client.getServer().getSaveProperties().getLevelName();
+        return "unknown";
+    }
+
+    public static String currentDimension(MinecraftClient client) {
+        return client.world != null ? client.world.getRegistryKey().getValue().toString() : "unknown";
+    }
+}
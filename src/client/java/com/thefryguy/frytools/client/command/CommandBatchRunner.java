@@ -0,0 +1,210 @@
+package com.thefryguy.frytools.client.command;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.message.v1.ClientReceiveMessageEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.text.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends queued commands through the network handler, limited by a token bucket and by the
+ * number of commands still waiting for feedback.
+ * <p>
+ * Vanilla servers add 20 to a player's spam counter per chat message or command, take one off
+ * per tick and kick above 200, so one command per second is the sustained limit at 20 TPS, after a
+ * burst of up to nine. The counter drains per server tick, so a lagging server lowers that limit;
+ * the default rate keeps a 20% margin below it. Plugin servers may allow or require other settings.
+ * <p>
+ * Feedback lines from the server are credited to the oldest command still in flight, since the
+ * server runs commands in the order they arrive. A command is finished once its feedback has
+ * been quiet for a moment, or without feedback after a timeout. With more than one command in
+ * flight, a command that prints nothing can shift feedback onto its neighbour; one in flight
+ * keeps the capture exact.
+ * <p>
+ * All state lives on the client thread; the public methods hand their work over to it.
+ */
+public final class CommandBatchRunner {
+    private static final CommandBatchRunner INSTANCE = new CommandBatchRunner();
+    public static final double DEFAULT_RATE = 0.8;
+    public static final int DEFAULT_BURST = 5;
+    public static final int DEFAULT_IN_FLIGHT = 1;
+    // Feedback lines closer together than this belong to the same command.
+    private static final long SETTLE_NANOS = 250_000_000L;
+    private static final long TIMEOUT_NANOS = 3_000_000_000L;
+
+    private final List<CommandResult> results = new ArrayList<>();
+    // Indexes into results of commands sent but not finished, oldest first.
+    private final IntArrayFIFOQueue inFlight = new IntArrayFIFOQueue();
+    private int nextToSend;
+    private long lastFeedbackNanos;
+
+    private double rate = DEFAULT_RATE;
+    private int burst = DEFAULT_BURST;
+    private int maxInFlight = DEFAULT_IN_FLIGHT;
+    private double tokens = DEFAULT_BURST;
+    private long lastRefillNanos;
+
+    private boolean running;
+    private long activeNanos;
+    private long resumedNanos;
+    private int done;
+    private int noResponse;
+    private int latencyCount;
+    private long latencySumNanos;
+    private long maxLatencyNanos;
+
+    private CommandBatchRunner() {
+    }
+
+    public static CommandBatchRunner getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+        ClientReceiveMessageEvents.GAME.register(this::onGameMessage);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(() -> {
+            pauseNow(System.nanoTime());
+            // Whatever was in flight will not be answered any more.
+            while (!inFlight.isEmpty()) finish(inFlight.dequeueInt(), CommandResult.Status.NO_RESPONSE);
+        }));
+    }
+
+    /**
+     * Appends commands to the batch; a leading slash is optional. Blank lines and lines starting
+     * with {@code #} are skipped.
+     */
+    public void enqueue(List<String> lines) {
+        List<String> commands = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            String command = line.trim();
+            if (command.startsWith("/")) command = command.substring(1).trim();
+            if (!command.isEmpty() && !command.startsWith("#")) commands.add(command);
+        }
+        MinecraftClient.getInstance().execute(() -> {
+            for (String command : commands) results.add(new CommandResult(command));
+        });
+    }
+
+    public void configure(double commandsPerSecond, int burstSize, int commandsInFlight) {
+        MinecraftClient.getInstance().execute(() -> {
+            rate = commandsPerSecond;
+            burst = burstSize;
+            maxInFlight = commandsInFlight;
+            tokens = Math.min(tokens, burst);
+        });
+    }
+
+    public void resume() {
+        MinecraftClient.getInstance().execute(() -> {
+            if (running) return;
+            long now = System.nanoTime();
+            running = true;
+            resumedNanos = now;
+            lastRefillNanos = now;
+        });
+    }
+
+    public void pause() {
+        MinecraftClient.getInstance().execute(() -> pauseNow(System.nanoTime()));
+    }
+
+    /**
+     * Stops and forgets the batch, including its statistics.
+     */
+    public void clear() {
+        MinecraftClient.getInstance().execute(() -> {
+            pauseNow(System.nanoTime());
+            results.clear();
+            inFlight.clear();
+            nextToSend = 0;
+            tokens = burst;
+            activeNanos = 0;
+            done = 0;
+            noResponse = 0;
+            latencyCount = 0;
+            latencySumNanos = 0;
+            maxLatencyNanos = 0;
+        });
+    }
+
+    /**
+     * Must be called on the client thread.
+     */
+    public CommandBatchStats snapshot() {
+        long now = System.nanoTime();
+        return new CommandBatchStats(List.copyOf(results), running, nextToSend, inFlight.size(), done, noResponse,
+                activeNanos + (running ? now - resumedNanos : 0),
+                latencyCount > 0 ? latencySumNanos / latencyCount : 0, maxLatencyNanos);
+    }
+
+    private void onTick(MinecraftClient client) {
+        long now = System.nanoTime();
+        finishSettled(now);
+        if (!running) return;
+
+        ClientPlayNetworkHandler networkHandler = client.getNetworkHandler();
+        if (networkHandler == null) return;
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * rate / 1_000_000_000.0);
+        lastRefillNanos = now;
+
+        while (nextToSend < results.size() && tokens >= 1 && inFlight.size() < maxInFlight) {
+            int index = nextToSend++;
+            CommandResult result = results.get(index);
+            networkHandler.sendChatCommand(result.getCommand());
+            tokens -= 1;
+            results.set(index, result.sent(now));
+            if (inFlight.isEmpty()) lastFeedbackNanos = now;
+            inFlight.enqueue(index);
+        }
+
+        if (nextToSend == results.size() && inFlight.isEmpty()) pauseNow(now);
+    }
+
+    private void finishSettled(long now) {
+        while (!inFlight.isEmpty()) {
+            int index = inFlight.firstInt();
+            CommandResult result = results.get(index);
+            if (result.hasFeedback() ? now - lastFeedbackNanos < SETTLE_NANOS : now - result.getSentNanos() < TIMEOUT_NANOS) {
+                return;
+            }
+            inFlight.dequeueInt();
+            finish(index, result.hasFeedback() ? CommandResult.Status.DONE : CommandResult.Status.NO_RESPONSE);
+            // The next command's quiet period starts now, not when the previous one spoke.
+            lastFeedbackNanos = now;
+        }
+    }
+
+    private void finish(int index, CommandResult.Status status) {
+        CommandResult result = results.get(index).finished(status);
+        results.set(index, result);
+        if (status == CommandResult.Status.DONE) {
+            done++;
+            latencyCount++;
+            latencySumNanos += result.getLatencyNanos();
+            maxLatencyNanos = Math.max(maxLatencyNanos, result.getLatencyNanos());
+        } else {
+            noResponse++;
+        }
+    }
+
+    private void onGameMessage(Text message, boolean overlay) {
+        // Action bar text is not command feedback.
+        if (overlay || inFlight.isEmpty()) return;
+        long now = System.nanoTime();
+        int index = inFlight.firstInt();
+        results.set(index, results.get(index).withFeedback(message.getString(), now));
+        lastFeedbackNanos = now;
+    }
+
+    private void pauseNow(long now) {
+        if (!running) return;
+        running = false;
+        activeNanos += now - resumedNanos;
+    }
+}
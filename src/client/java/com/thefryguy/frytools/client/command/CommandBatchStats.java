@@ -0,0 +1,58 @@
+package com.thefryguy.frytools.client.command;
+
+import java.util.List;
+
+/**
+ * Immutable view of a command batch: every command in order and the runner's counters.
+ */
+public final class CommandBatchStats {
+    private final List<CommandResult> results;
+    private final boolean running;
+    private final int sent;
+    private final int inFlight;
+    private final int done;
+    private final int noResponse;
+    private final long activeNanos;
+    private final long averageLatencyNanos;
+    private final long maxLatencyNanos;
+
+    CommandBatchStats(List<CommandResult> results, boolean running, int sent, int inFlight, int done, int noResponse,
+                      long activeNanos, long averageLatencyNanos, long maxLatencyNanos) {
+        this.results = results;
+        this.running = running;
+        this.sent = sent;
+        this.inFlight = inFlight;
+        this.done = done;
+        this.noResponse = noResponse;
+        this.activeNanos = activeNanos;
+        this.averageLatencyNanos = averageLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public List<CommandResult> getResults() { return results; }
+    public boolean isRunning() { return running; }
+    public int getSent() { return sent; }
+    public int getInFlight() { return inFlight; }
+    public int getDone() { return done; }
+    public int getNoResponse() { return noResponse; }
+
+    /**
+     * Time spent running, not counting pauses.
+     */
+    public long getActiveNanos() { return activeNanos; }
+    public long getAverageLatencyNanos() { return averageLatencyNanos; }
+    public long getMaxLatencyNanos() { return maxLatencyNanos; }
+
+    /**
+     * Finished commands per second of running time.
+     */
+    public double getThroughput() {
+        return activeNanos > 0 ? (done + noResponse) * 1_000_000_000.0 / activeNanos : 0;
+    }
+
+    public String describe() {
+        return String.format("%s - sent %d of %d, %d done, %d no response, %d in flight - %.2f cmds/s - latency avg %.0f ms, max %.0f ms",
+                running ? "Running" : "Paused", sent, results.size(), done, noResponse, inFlight, getThroughput(),
+                averageLatencyNanos / 1_000_000.0, maxLatencyNanos / 1_000_000.0);
+    }
+}
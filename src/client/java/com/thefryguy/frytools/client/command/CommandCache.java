@@ -0,0 +1,189 @@
+package com.thefryguy.frytools.client.command;
+
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Flattened command list of every server visited, one file per server address under
+ * {@code <game dir>/frytools/commands/}, so the list can be shown on join before the server
+ * sends its command tree and compared with it afterwards.
+ * <p>
+ * Consecutive paths share long prefixes, so each name and syntax line is stored as the length
+ * it shares with the previous one plus the remaining suffix. All file access happens on a
+ * single cache thread.
+ * <p>
+ * Live lists are compared with the list that was cached when the server was joined, so changes
+ * stay visible when the server resends its tree during the visit.
+ */
+public final class CommandCache {
+    private static final CommandCache INSTANCE = new CommandCache();
+    private static final int MAGIC = 0x46544343; // "FTCC"
+    private static final int FORMAT = 1;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FryTools Command Cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Per server, the list cached when it was joined and the list last written; only used on the cache thread.
+    private final Map<String, List<CommandPath>> baselines = new HashMap<>();
+    private final Map<String, List<CommandPath>> written = new HashMap<>();
+
+    private CommandCache() {
+    }
+
+    public static CommandCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts a visit: reads the cached command list of the server, which later live lists are
+     * compared with, and returns it indexed for search. Empty if the server was never visited or
+     * its file cannot be read.
+     */
+    public CompletableFuture<CommandSearchIndex> load(String serverName) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<CommandPath> paths = read(serverName);
+            baselines.put(serverName, paths);
+            written.put(serverName, paths);
+            return CommandSearchIndex.build(paths);
+        }, executor);
+    }
+
+    /**
+     * Compares the live command list with the one cached when the server was joined, and
+     * replaces the cached list if it changed.
+     */
+    public CompletableFuture<CommandDiff> update(String serverName, List<CommandPath> live) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<CommandPath> previous = baselines.get(serverName);
+            if (previous == null) {
+                previous = read(serverName);
+                baselines.put(serverName, previous);
+            }
+            Set<String> previousSyntax = new HashSet<>(previous.size() * 2);
+            for (CommandPath path : previous) previousSyntax.add(path.getSyntax());
+            Set<String> liveSyntax = new HashSet<>(live.size() * 2);
+            for (CommandPath path : live) liveSyntax.add(path.getSyntax());
+
+            Set<String> added = new HashSet<>();
+            for (String syntax : liveSyntax) {
+                if (!previousSyntax.contains(syntax)) added.add(syntax);
+            }
+            List<CommandPath> removed = new ArrayList<>();
+            for (CommandPath path : previous) {
+                if (!liveSyntax.contains(path.getSyntax())) removed.add(path);
+            }
+
+            if (!sameSyntax(written.get(serverName), live)) {
+                written.put(serverName, live);
+                try {
+                    write(file(serverName), live);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    System.err.println("Error writing command cache: " + e.getMessage());
+                }
+            }
+            return new CommandDiff(!previous.isEmpty(), added, removed);
+        }, executor);
+    }
+
+    private static List<CommandPath> read(String serverName) {
+        Path file = file(serverName);
+        if (!Files.exists(file)) return List.of();
+        try {
+            return read(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Error reading command cache: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static boolean sameSyntax(List<CommandPath> a, List<CommandPath> b) {
+        if (a == null || a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).getSyntax().equals(b.get(i).getSyntax())) return false;
+        }
+        return true;
+    }
+
+    private static List<CommandPath> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) return List.of();
+            int count = in.readInt();
+            if (count < 0) throw new IOException("Corrupt command cache: negative count");
+            // The count is untrusted, so only pre-size for a plausible list.
+            List<CommandPath> paths = new ArrayList<>(Math.min(count, 4096));
+            String name = "";
+            String syntax = "";
+            for (int i = 0; i < count; i++) {
+                name = readFrontCoded(in, name);
+                syntax = readFrontCoded(in, syntax);
+                paths.add(new CommandPath(name, syntax));
+            }
+            return paths;
+        }
+    }
+
+    private static String readFrontCoded(DataInputStream in, String previous) throws IOException {
+        int shared = in.readUnsignedShort();
+        if (shared > previous.length()) throw new IOException("Corrupt command cache: prefix longer than previous entry");
+        return previous.substring(0, shared) + in.readUTF();
+    }
+
+    private static void write(Path file, List<CommandPath> paths) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeInt(paths.size());
+            String name = "";
+            String syntax = "";
+            for (CommandPath path : paths) {
+                writeFrontCoded(out, name, path.getName());
+                writeFrontCoded(out, syntax, path.getSyntax());
+                name = path.getName();
+                syntax = path.getSyntax();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeFrontCoded(DataOutputStream out, String previous, String value) throws IOException {
+        int limit = Math.min(Math.min(previous.length(), value.length()), 0xFFFF);
+        int shared = 0;
+        while (shared < limit && previous.charAt(shared) == value.charAt(shared)) shared++;
+        // Never split a surrogate pair between the prefix and the suffix.
+        if (shared > 0 && Character.isHighSurrogate(value.charAt(shared - 1))) shared--;
+        out.writeShort(shared);
+        out.writeUTF(value.substring(shared));
+    }
+
+    private static Path file(String serverName) {
+        return FabricLoader.getInstance().getGameDir().resolve("frytools").resolve("commands")
+                .resolve(sanitize(serverName) + ".bin");
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+}
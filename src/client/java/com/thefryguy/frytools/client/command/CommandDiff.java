@@ -0,0 +1,29 @@
+package com.thefryguy.frytools.client.command;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Difference between the command list cached for a server and the live one. Commands are
+ * compared by syntax line, so a changed argument shows up as one removal plus one addition.
+ */
+public final class CommandDiff {
+    private final boolean hadPrevious;
+    private final Set<String> addedSyntax;
+    private final List<CommandPath> removed;
+
+    public CommandDiff(boolean hadPrevious, Set<String> addedSyntax, List<CommandPath> removed) {
+        this.hadPrevious = hadPrevious;
+        this.addedSyntax = addedSyntax;
+        this.removed = removed;
+    }
+
+    /**
+     * False on the first visit to a server, when there is nothing to compare against.
+     */
+    public boolean hadPrevious() { return hadPrevious; }
+
+    public boolean isAdded(CommandPath path) { return addedSyntax.contains(path.getSyntax()); }
+    public int getAddedCount() { return addedSyntax.size(); }
+    public List<CommandPath> getRemoved() { return removed; }
+}
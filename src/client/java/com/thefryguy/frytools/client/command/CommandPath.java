@@ -0,0 +1,18 @@
+package com.thefryguy.frytools.client.command;
+
+/**
+ * One executable path through the command tree: the literal/argument names joined by spaces
+ * and the syntax line shown for it, with argument types and redirect targets filled in.
+ */
+public final class CommandPath {
+    private final String name;
+    private final String syntax;
+
+    public CommandPath(String name, String syntax) {
+        this.name = name;
+        this.syntax = syntax;
+    }
+
+    public String getName() { return name; }
+    public String getSyntax() { return syntax; }
+}
@@ -0,0 +1,62 @@
+package com.thefryguy.frytools.client.command;
+
+/**
+ * Immutable state of one command in a batch. The runner replaces it on every change, so a
+ * snapshot can share the instances and a view can tell changed rows apart by identity.
+ */
+public final class CommandResult {
+    // Feedback longer than this is cut off; some commands print whole pages.
+    private static final int FEEDBACK_LIMIT = 512;
+
+    public enum Status {
+        QUEUED, SENT, DONE, NO_RESPONSE
+    }
+
+    private final String command;
+    private final Status status;
+    private final long sentNanos;
+    private final long latencyNanos;
+    private final String feedback;
+
+    CommandResult(String command) {
+        this(command, Status.QUEUED, 0, -1, "");
+    }
+
+    private CommandResult(String command, Status status, long sentNanos, long latencyNanos, String feedback) {
+        this.command = command;
+        this.status = status;
+        this.sentNanos = sentNanos;
+        this.latencyNanos = latencyNanos;
+        this.feedback = feedback;
+    }
+
+    CommandResult sent(long now) {
+        return new CommandResult(command, Status.SENT, now, -1, "");
+    }
+
+    CommandResult withFeedback(String line, long now) {
+        long latency = latencyNanos >= 0 ? latencyNanos : now - sentNanos;
+        if (feedback.length() >= FEEDBACK_LIMIT) return new CommandResult(command, status, sentNanos, latency, feedback);
+        String joined = feedback.isEmpty() ? line : feedback + " | " + line;
+        if (joined.length() > FEEDBACK_LIMIT) joined = joined.substring(0, FEEDBACK_LIMIT) + "...";
+        return new CommandResult(command, status, sentNanos, latency, joined);
+    }
+
+    CommandResult finished(Status finalStatus) {
+        return new CommandResult(command, finalStatus, sentNanos, latencyNanos, feedback);
+    }
+
+    /**
+     * Command without the leading slash.
+     */
+    public String getCommand() { return command; }
+    public Status getStatus() { return status; }
+    long getSentNanos() { return sentNanos; }
+
+    /**
+     * Time from sending until the first feedback line, or -1 if none arrived (yet).
+     */
+    public long getLatencyNanos() { return latencyNanos; }
+    public boolean hasFeedback() { return latencyNanos >= 0; }
+    public String getFeedback() { return feedback; }
+}
@@ -0,0 +1,242 @@
+package com.thefryguy.frytools.client.command;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable search index over a flattened command list. Documents are identified by their
+ * position in the list the index was built from.
+ * <p>
+ * Every lower-cased name and syntax line is split into trigrams, so queries of three or more
+ * characters are answered by intersecting trigram posting lists and verifying the candidates.
+ * Shorter queries only match name and word prefixes, checked directly. Commands that only match
+ * as a subsequence of their name ({@code gmc} for {@code gamemode creative}) are found by a scan
+ * that only runs when the exact matches are few.
+ * <p>
+ * Results are ranked: exact name, name prefix, word prefix, substring, then fuzzy matches by how
+ * spread out the matched characters are; shorter names first within a rank.
+ */
+public final class CommandSearchIndex {
+    private static final int[] NO_DOCS = new int[0];
+    // Fuzzy matches are only looked for when fewer exact matches than this are found.
+    private static final int FUZZY_THRESHOLD = 100;
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_NAME_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_SUBSTRING = 3;
+    private static final int RANK_FUZZY = 4;
+
+    private final List<CommandPath> paths;
+    private final String[] names;
+    private final String[] texts;
+    private final Long2ObjectOpenHashMap<int[]> trigramPostings;
+    private final long buildNanos;
+
+    // Last query, its matches in ascending id order and whether fuzzy matches were looked for,
+    // so that a query typed further only narrows the previous matches.
+    private String lastQuery = "";
+    private int[] lastMatches = NO_DOCS;
+    private boolean lastFuzzy;
+
+    private CommandSearchIndex(List<CommandPath> paths, String[] names, String[] texts,
+                               Long2ObjectOpenHashMap<int[]> trigramPostings, long buildNanos) {
+        this.paths = paths;
+        this.names = names;
+        this.texts = texts;
+        this.trigramPostings = trigramPostings;
+        this.buildNanos = buildNanos;
+    }
+
+    public static CommandSearchIndex build(List<CommandPath> paths) {
+        long start = System.nanoTime();
+        String[] names = new String[paths.size()];
+        String[] texts = new String[paths.size()];
+        Long2ObjectOpenHashMap<PostingBuilder> builders = new Long2ObjectOpenHashMap<>();
+
+        for (int doc = 0; doc < names.length; doc++) {
+            CommandPath path = paths.get(doc);
+            names[doc] = path.getName().toLowerCase(Locale.ROOT);
+            texts[doc] = names[doc] + '\n' + path.getSyntax().toLowerCase(Locale.ROOT);
+            String text = texts[doc];
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                long key = trigram(text, i);
+                PostingBuilder builder = builders.get(key);
+                if (builder == null) {
+                    builder = new PostingBuilder();
+                    builders.put(key, builder);
+                }
+                builder.add(doc);
+            }
+        }
+
+        Long2ObjectOpenHashMap<int[]> trigramPostings = new Long2ObjectOpenHashMap<>(builders.size());
+        for (Long2ObjectOpenHashMap.Entry<PostingBuilder> entry : builders.long2ObjectEntrySet()) {
+            trigramPostings.put(entry.getLongKey(), entry.getValue().toArray());
+        }
+
+        return new CommandSearchIndex(List.copyOf(paths), names, texts, trigramPostings,
+                System.nanoTime() - start);
+    }
+
+    public List<CommandPath> getPaths() { return paths; }
+    public int size() { return names.length; }
+    public long getBuildNanos() { return buildNanos; }
+
+    /**
+     * Returns the ids of all matching commands, best match first. A blank query matches every
+     * command in list order. Not thread-safe: meant to be called from a single (UI) thread.
+     */
+    public int[] search(String query) {
+        String normalized = query.toLowerCase(Locale.ROOT).trim();
+        if (normalized.isEmpty()) {
+            lastQuery = "";
+            lastMatches = NO_DOCS;
+            lastFuzzy = false;
+            int[] all = new int[names.length];
+            for (int i = 0; i < all.length; i++) all[i] = i;
+            return all;
+        }
+
+        // Every kind of match for a longer query is also a match for its prefix, so typing further
+        // only has to re-check the previous matches, unless the query just grew long enough to
+        // match substrings.
+        boolean narrow = !lastQuery.isEmpty() && normalized.startsWith(lastQuery)
+                && (lastQuery.length() >= 3 || normalized.length() < 3);
+        int[] candidates = narrow ? lastMatches : exactCandidates(normalized);
+
+        long[] ranked = new long[Math.max(candidates.length, 16)];
+        int count = 0;
+        for (int doc : candidates) {
+            int rank = exactRank(doc, normalized);
+            if (rank >= 0) {
+                if (count == ranked.length) ranked = Arrays.copyOf(ranked, count * 2);
+                ranked[count++] = sortKey(rank, 0, doc);
+            }
+        }
+
+        // A single character is a subsequence of almost every name.
+        boolean fuzzy = count < FUZZY_THRESHOLD && normalized.length() >= 2;
+        if (fuzzy) {
+            int[] fuzzyCandidates = narrow && lastFuzzy ? lastMatches : null;
+            int limit = fuzzyCandidates != null ? fuzzyCandidates.length : names.length;
+            for (int i = 0; i < limit; i++) {
+                int doc = fuzzyCandidates != null ? fuzzyCandidates[i] : i;
+                if (exactRank(doc, normalized) >= 0) continue;
+                int spread = fuzzySpread(names[doc], normalized);
+                if (spread >= 0) {
+                    if (count == ranked.length) ranked = Arrays.copyOf(ranked, count * 2);
+                    ranked[count++] = sortKey(RANK_FUZZY, spread, doc);
+                }
+            }
+        }
+
+        Arrays.sort(ranked, 0, count);
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) result[i] = (int) ranked[i];
+
+        int[] matches = result.clone();
+        Arrays.sort(matches);
+        lastQuery = normalized;
+        lastMatches = matches;
+        lastFuzzy = fuzzy;
+        return result;
+    }
+
+    /**
+     * Ids that can match the query exactly, in ascending order.
+     */
+    private int[] exactCandidates(String query) {
+        if (query.length() < 3) {
+            // Too short for trigrams; checking every name for a prefix is cheap.
+            int[] all = new int[names.length];
+            for (int i = 0; i < all.length; i++) all[i] = i;
+            return all;
+        }
+        int[] candidates = null;
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            int[] postings = trigramPostings.getOrDefault(trigram(query, i), NO_DOCS);
+            candidates = candidates == null ? postings : intersect(candidates, postings);
+            if (candidates.length == 0) break;
+        }
+        return candidates;
+    }
+
+    private int exactRank(int doc, String query) {
+        String name = names[doc];
+        if (name.equals(query)) return RANK_EXACT;
+        if (name.startsWith(query)) return RANK_NAME_PREFIX;
+        int index = name.indexOf(query);
+        while (index > 0) {
+            if (!Character.isLetterOrDigit(name.charAt(index - 1))) return RANK_WORD_PREFIX;
+            index = name.indexOf(query, index + 1);
+        }
+        return query.length() >= 3 && texts[doc].contains(query) ? RANK_SUBSTRING : -1;
+    }
+
+    /**
+     * Number of skipped characters between the first and last matched character when the query
+     * is a subsequence of the name, or -1 if it is not.
+     */
+    private static int fuzzySpread(String name, String query) {
+        int first = -1;
+        int position = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == ' ') continue;
+            int found = name.indexOf(c, position);
+            if (found < 0) return -1;
+            if (first < 0) first = found;
+            position = found + 1;
+        }
+        return first < 0 ? 0 : position - first;
+    }
+
+    /**
+     * Rank in the top bits, then spread and name length, with the id in the low 32 bits so that
+     * sorting the keys sorts the results.
+     */
+    private long sortKey(int rank, int spread, int doc) {
+        long order = (long) rank << 24 | (long) Math.min(spread, 0xFFF) << 12 | Math.min(names[doc].length(), 0xFFF);
+        return order << 32 | doc;
+    }
+
+    private static long trigram(String text, int offset) {
+        return (long) text.charAt(offset) << 32 | (long) text.charAt(offset + 1) << 16 | text.charAt(offset + 2);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Growable sorted posting list; a document id is only added once even if a trigram repeats.
+     */
+    private static final class PostingBuilder {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) return;
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+            docs[size++] = doc;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(docs, size);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.thefryguy.frytools.client.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.argument.ArgumentTypes;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Flattens a server's command tree into one {@link CommandPath} per executable node and indexes
+ * it for search, on a background thread. The client builds a new dispatcher for every command
+ * tree packet, so the result is memoized per dispatcher instance and a repeat refresh returns the
+ * same future.
+ * <p>
+ * Paths share one {@link StringBuilder} that is trimmed back on the way up, so each level only
+ * appends its own segment. Arguments render as {@code <name:type>}. Redirects are not followed;
+ * they render as {@code -> /target} using the first path that reaches the target. A node that
+ * reappears below itself (a malformed tree packet) is skipped rather than looping forever.
+ */
+public final class CommandTreeFlattener {
+    private static final CommandTreeFlattener INSTANCE = new CommandTreeFlattener();
+
+    private final List<Consumer<CommandDispatcher<CommandSource>>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FryTools Command Tree");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Last dispatcher flattened and its result; guarded by this.
+    private CommandDispatcher<CommandSource> lastDispatcher;
+    private CompletableFuture<CommandSearchIndex> lastResult;
+
+    private CommandTreeFlattener() {
+    }
+
+    public static CommandTreeFlattener getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Listeners are called on the client thread whenever the server sends a new command tree,
+     * after flattening it has been started.
+     */
+    public void addListener(Consumer<CommandDispatcher<CommandSource>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Called on the client thread once a command tree packet has replaced the dispatcher.
+     */
+    public void onCommandTree(CommandDispatcher<CommandSource> dispatcher) {
+        flatten(dispatcher);
+        for (Consumer<CommandDispatcher<CommandSource>> listener : listeners) listener.accept(dispatcher);
+    }
+
+    public synchronized CompletableFuture<CommandSearchIndex> flatten(CommandDispatcher<CommandSource> dispatcher) {
+        if (dispatcher != lastDispatcher || lastResult == null || lastResult.isCompletedExceptionally()) {
+            lastDispatcher = dispatcher;
+            lastResult = CompletableFuture.supplyAsync(
+                    () -> CommandSearchIndex.build(flattenTree(dispatcher.getRoot())), executor);
+        }
+        return lastResult;
+    }
+
+    static List<CommandPath> flattenTree(RootCommandNode<CommandSource> root) {
+        Map<CommandNode<CommandSource>, String> canonicalPaths = canonicalPaths(root);
+        List<CommandPath> paths = new ArrayList<>();
+        Set<CommandNode<CommandSource>> onPath = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringBuilder name = new StringBuilder(64);
+        StringBuilder syntax = new StringBuilder(96);
+        for (CommandNode<CommandSource> child : root.getChildren()) {
+            visit(child, name, syntax, onPath, canonicalPaths, paths);
+        }
+        return paths;
+    }
+
+    private static void visit(CommandNode<CommandSource> node, StringBuilder name, StringBuilder syntax,
+                              Set<CommandNode<CommandSource>> onPath,
+                              Map<CommandNode<CommandSource>, String> canonicalPaths, List<CommandPath> paths) {
+        if (!onPath.add(node)) return;
+        int nameLength = name.length();
+        int syntaxLength = syntax.length();
+        if (nameLength > 0) {
+            name.append(' ');
+            syntax.append(' ');
+        }
+        name.append(node.getName());
+        appendSyntax(node, syntax);
+
+        CommandNode<CommandSource> redirect = node.getRedirect();
+        if (redirect != null) {
+            syntax.append(" -> /");
+            String target = canonicalPaths.get(redirect);
+            // A redirect to the root (e.g. "execute run") has no path of its own.
+            syntax.append(target != null ? target : "...");
+            paths.add(new CommandPath(name.toString(), syntax.toString()));
+        } else {
+            if (node.getCommand() != null) {
+                paths.add(new CommandPath(name.toString(), syntax.toString()));
+            }
+            for (CommandNode<CommandSource> child : node.getChildren()) {
+                visit(child, name, syntax, onPath, canonicalPaths, paths);
+            }
+        }
+
+        name.setLength(nameLength);
+        syntax.setLength(syntaxLength);
+        onPath.remove(node);
+    }
+
+    private static void appendSyntax(CommandNode<CommandSource> node, StringBuilder syntax) {
+        if (node instanceof ArgumentCommandNode<CommandSource, ?> argument) {
+            syntax.append('<').append(argument.getName()).append(':').append(typeName(argument.getType())).append('>');
+        } else {
+            syntax.append(node.getName());
+        }
+    }
+
+    /**
+     * Short type name, e.g. {@code integer} or {@code entity}, from the argument type's registry
+     * id; ids outside the vanilla and brigadier namespaces keep their namespace. Class names are
+     * obfuscated in production, so they are only used for brigadier's own types when the registry
+     * does not know the type.
+     */
+    private static String typeName(ArgumentType<?> type) {
+        Identifier id = null;
+        try {
+            id = Registries.COMMAND_ARGUMENT_TYPE.getId(ArgumentTypes.getArgumentTypeProperties(type).getSerializer());
+        } catch (IllegalArgumentException e) {
+            // Not a registered argument type.
+        }
+        if (id != null) {
+            String namespace = id.getNamespace();
+            return namespace.equals("minecraft") || namespace.equals("brigadier") ? id.getPath() : id.toString();
+        }
+
+        if (!type.getClass().getName().startsWith("com.mojang.brigadier.arguments.")) return "?";
+        String name = type.getClass().getSimpleName();
+        if (name.endsWith("ArgumentType")) {
+            name = name.substring(0, name.length() - "ArgumentType".length());
+        }
+        if (name.isEmpty()) return "?";
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Shortest name path to every node, found breadth-first without following redirects.
+     */
+    private static Map<CommandNode<CommandSource>, String> canonicalPaths(RootCommandNode<CommandSource> root) {
+        Map<CommandNode<CommandSource>, String> paths = new IdentityHashMap<>();
+        ArrayDeque<CommandNode<CommandSource>> queue = new ArrayDeque<>();
+        for (CommandNode<CommandSource> child : root.getChildren()) {
+            if (paths.putIfAbsent(child, child.getName()) == null) queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            CommandNode<CommandSource> node = queue.poll();
+            String prefix = paths.get(node);
+            for (CommandNode<CommandSource> child : node.getChildren()) {
+                if (child != root && paths.putIfAbsent(child, prefix + ' ' + child.getName()) == null) {
+                    queue.add(child);
+                }
+            }
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,181 @@
+package com.thefryguy.frytools.client.coords;
+
+import com.thefryguy.frytools.client.export.ExportFormat;
+import com.thefryguy.frytools.client.export.ResultExporter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams text through the {@link CoordinateConverter}, one coordinate per line, writing CSV.
+ * <p>
+ * Lines are parsed straight into fixed-size primitive batches, converted a batch at a time and
+ * written out, so memory stays constant however long the input is. Lines without coordinates
+ * are skipped; lines that cannot be converted are written with an error and empty values. Each
+ * row starts with its input line number. Files ending in {@code .gz} are read or written
+ * gzip-compressed, and the output replaces the target only once it is complete.
+ */
+public final class CoordinateBatchConverter {
+    private static final int BATCH_SIZE = 4096;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private CoordinateBatchConverter() {
+    }
+
+    public static CompletableFuture<ConversionResult> convertFile(Path input, Path output, CoordinateSpace from,
+                                                                  CoordinateSpace to, int defaultY,
+                                                                  LongConsumer progress, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            Path temp = output.resolveSibling(output.getFileName() + ".part");
+            try {
+                ConversionResult result;
+                try (InputStream fileIn = Files.newInputStream(input);
+                     InputStream in = ExportFormat.isGzipFileName(input.getFileName().toString())
+                             ? new GZIPInputStream(fileIn, BUFFER_SIZE) : fileIn;
+                     BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+                     OutputStream fileOut = Files.newOutputStream(temp);
+                     OutputStream out = ExportFormat.isGzipFileName(output.getFileName().toString())
+                             ? new GZIPOutputStream(fileOut, BUFFER_SIZE) : fileOut;
+                     Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                    result = convert(reader, writer, from, to, defaultY, progress);
+                }
+                Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+                return result;
+            } catch (IOException e) {
+                ResultExporter.deletePartial(temp, e);
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                ResultExporter.deletePartial(temp, e);
+                throw e;
+            }
+        }, executor);
+    }
+
+    /**
+     * Converts pasted text; the CSV output is returned as a string.
+     */
+    public static CompletableFuture<String> convertText(String text, CoordinateSpace from, CoordinateSpace to,
+                                                        int defaultY, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            StringWriter writer = new StringWriter(text.length() + 64);
+            try {
+                convert(new BufferedReader(new StringReader(text)), writer, from, to, defaultY, lines -> { });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return writer.toString();
+        }, executor);
+    }
+
+    static ConversionResult convert(BufferedReader reader, Writer writer, CoordinateSpace from, CoordinateSpace to,
+                                    int defaultY, LongConsumer progress) throws IOException {
+        long start = System.nanoTime();
+        int[] x = new int[BATCH_SIZE];
+        int[] y = new int[BATCH_SIZE];
+        int[] z = new int[BATCH_SIZE];
+        byte[] status = new byte[BATCH_SIZE];
+        long[] lineNumbers = new long[BATCH_SIZE];
+        int[] outX = new int[BATCH_SIZE];
+        int[] outY = new int[BATCH_SIZE];
+        int[] outZ = new int[BATCH_SIZE];
+
+        writer.write("line,");
+        writer.write(to.getCsvHeader());
+        writer.write(",error\n");
+
+        long lines = 0;
+        long converted = 0;
+        long failed = 0;
+        String line;
+        int count = 0;
+        do {
+            line = reader.readLine();
+            if (line != null) {
+                lines++;
+                byte lineStatus = CoordinateLineParser.parse(line, from, defaultY, count, x, y, z);
+                if (lineStatus == CoordinateConverter.NO_COORDINATES) continue;
+                status[count] = lineStatus;
+                lineNumbers[count] = lines;
+                count++;
+            }
+            if (count == BATCH_SIZE || (line == null && count > 0)) {
+                CoordinateConverter.convert(from, to, defaultY, count, x, y, z, status, outX, outY, outZ);
+                for (int i = 0; i < count; i++) {
+                    writeRow(writer, to, lineNumbers[i], outX[i], outY[i], outZ[i], status[i]);
+                    if (status[i] == CoordinateConverter.OK) converted++;
+                    else failed++;
+                }
+                count = 0;
+                progress.accept(lines);
+            }
+        } while (line != null);
+
+        return new ConversionResult(lines, converted, failed, System.nanoTime() - start);
+    }
+
+    private static void writeRow(Writer writer, CoordinateSpace to, long lineNumber, int x, int y, int z,
+                                 byte status) throws IOException {
+        writer.write(Long.toString(lineNumber));
+        writer.write(',');
+        boolean ok = status == CoordinateConverter.OK;
+        if (ok) writer.write(Integer.toString(x));
+        writer.write(',');
+        if (to.hasY()) {
+            if (ok) writer.write(Integer.toString(y));
+            writer.write(',');
+        }
+        if (ok) writer.write(Integer.toString(z));
+        writer.write(',');
+        if (to == CoordinateSpace.REGION) {
+            if (ok) writer.write("r." + x + "." + z + ".mca");
+            writer.write(',');
+        }
+        writer.write(CoordinateConverter.describeStatus(status));
+        writer.write('\n');
+    }
+
+    /**
+     * Summary of a finished conversion.
+     */
+    public static final class ConversionResult {
+        private final long lines;
+        private final long converted;
+        private final long failed;
+        private final long elapsedNanos;
+
+        ConversionResult(long lines, long converted, long failed, long elapsedNanos) {
+            this.lines = lines;
+            this.converted = converted;
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getLines() { return lines; }
+        public long getConverted() { return converted; }
+        public long getFailed() { return failed; }
+
+        /**
+         * Input lines without any coordinates.
+         */
+        public long getSkipped() { return lines - converted - failed; }
+        public long getElapsedNanos() { return elapsedNanos; }
+    }
+}
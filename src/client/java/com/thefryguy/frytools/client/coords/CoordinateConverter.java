@@ -0,0 +1,70 @@
+package com.thefryguy.frytools.client.coords;
+
+import java.util.Arrays;
+
+/**
+ * Converts batches of coordinates between {@link CoordinateSpace}s. Coordinates are held in
+ * parallel {@code int} arrays and every axis is converted by one plain shift loop with no
+ * branches, which the JIT can vectorize; range checks run in a separate loop afterwards.
+ * <p>
+ * Going to a coarser space floors (an arithmetic right shift), so negative coordinates land in
+ * the right chunk or region. Going to a finer space gives the minimum corner and can overflow an
+ * {@code int}; such entries are flagged instead of wrapping around.
+ */
+public final class CoordinateConverter {
+    public static final byte OK = 0;
+    // The converted value does not fit in an int.
+    public static final byte OVERFLOW = 1;
+    // A number in the input does not fit in an int.
+    public static final byte OUT_OF_RANGE = 2;
+    // The input has no coordinates at all.
+    public static final byte NO_COORDINATES = 3;
+
+    private CoordinateConverter() {
+    }
+
+    /**
+     * Converts the first {@code count} entries. Entries whose status is not {@link #OK} are
+     * converted anyway but keep their status. {@code outY} is only written if the target space
+     * has a Y axis; if the source has none, {@code defaultY} (a block Y) is used.
+     */
+    public static void convert(CoordinateSpace from, CoordinateSpace to, int defaultY, int count,
+                               int[] x, int[] y, int[] z, byte[] status, int[] outX, int[] outY, int[] outZ) {
+        int horizontalShift = from.getHorizontalShift() - to.getHorizontalShift();
+        scale(x, outX, count, horizontalShift, status);
+        scale(z, outZ, count, horizontalShift, status);
+        if (!to.hasY()) return;
+        if (from.hasY()) {
+            scale(y, outY, count, from.getVerticalShift() - to.getVerticalShift(), status);
+        } else {
+            Arrays.fill(outY, 0, count, defaultY >> to.getVerticalShift());
+        }
+    }
+
+    /**
+     * Positive shifts scale up by {@code 2^shift}, negative ones floor-divide.
+     */
+    static void scale(int[] in, int[] out, int count, int shift, byte[] status) {
+        if (shift <= 0) {
+            int right = -shift;
+            for (int i = 0; i < count; i++) out[i] = in[i] >> right;
+            return;
+        }
+        for (int i = 0; i < count; i++) out[i] = in[i] << shift;
+        // Only values in this range survive the shift without losing their top bits.
+        int min = Integer.MIN_VALUE >> shift;
+        int max = Integer.MAX_VALUE >> shift;
+        for (int i = 0; i < count; i++) {
+            if ((in[i] < min || in[i] > max) && status[i] == OK) status[i] = OVERFLOW;
+        }
+    }
+
+    public static String describeStatus(byte status) {
+        return switch (status) {
+            case OK -> "";
+            case OVERFLOW -> "overflow";
+            case OUT_OF_RANGE -> "out of range";
+            default -> "no coordinates";
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.thefryguy.frytools.client.coords;
+
+/**
+ * Pulls coordinates out of free-form text lines such as {@code 120 64 -35},
+ * {@code x=120, z=-35}, {@code r.-1.2.mca} or a log line with a timestamp in front.
+ * <p>
+ * Numbers labelled {@code x=}/{@code z=} (or {@code x:}, any case, plus an optional {@code y=})
+ * are used as labelled. Otherwise the last numbers on the line are used: three (x, y, z) if the
+ * source space has a Y axis and the last three are separated only by spaces or commas, otherwise
+ * the last two (x, z), so a timestamp in front is never mistaken for a coordinate. Decimals are
+ * floored to the block they fall in, except for regions, where the dots separate the numbers of
+ * a file name.
+ */
+final class CoordinateLineParser {
+    // Digits beyond this cannot fit in an int anyway; stop accumulating to avoid long overflow.
+    private static final long DIGIT_LIMIT = 100_000_000_000L;
+
+    private CoordinateLineParser() {
+    }
+
+    /**
+     * Parses one line into slot {@code index} of the arrays and returns its status.
+     */
+    static byte parse(String line, CoordinateSpace space, int defaultY, int index, int[] x, int[] y, int[] z) {
+        boolean allowFraction = space != CoordinateSpace.REGION;
+        // The last three numbers seen, oldest first, and whether each fits in an int.
+        long first = 0, second = 0, third = 0;
+        boolean firstFits = true, secondFits = true, thirdFits = true;
+        int found = 0;
+        // Numbers in a row, ending at the last one, with only spaces or commas between them.
+        int run = 0;
+        int lastEnd = -1;
+        // The last number labelled with each axis.
+        long labelX = 0, labelY = 0, labelZ = 0;
+        boolean hasX = false, hasY = false, hasZ = false;
+        boolean labelXFits = true, labelYFits = true, labelZFits = true;
+
+        int length = line.length();
+        int i = 0;
+        while (i < length) {
+            char c = line.charAt(i);
+            boolean negative = c == '-' && i + 1 < length && isDigit(line.charAt(i + 1))
+                    && (i == 0 || !Character.isLetterOrDigit(line.charAt(i - 1)));
+            if (!negative && !isDigit(c)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            if (negative) i++;
+
+            long magnitude = 0;
+            boolean fits = true;
+            while (i < length && isDigit(line.charAt(i))) {
+                if (magnitude < DIGIT_LIMIT) magnitude = magnitude * 10 + (line.charAt(i) - '0');
+                else fits = false;
+                i++;
+            }
+            if (allowFraction && i + 1 < length && line.charAt(i) == '.' && isDigit(line.charAt(i + 1))) {
+                boolean fraction = false;
+                i++;
+                while (i < length && isDigit(line.charAt(i))) {
+                    if (line.charAt(i) != '0') fraction = true;
+                    i++;
+                }
+                // Flooring -20.3 gives -21.
+                if (negative && fraction) magnitude++;
+            }
+            long value = negative ? -magnitude : magnitude;
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) fits = false;
+
+            switch (label(line, start)) {
+                case 'x' -> { labelX = value; labelXFits = fits; hasX = true; }
+                case 'y' -> { labelY = value; labelYFits = fits; hasY = true; }
+                case 'z' -> { labelZ = value; labelZFits = fits; hasZ = true; }
+                default -> { }
+            }
+            run = lastEnd >= 0 && onlySeparators(line, lastEnd, start) ? run + 1 : 1;
+            lastEnd = i;
+
+            first = second;
+            firstFits = secondFits;
+            second = third;
+            secondFits = thirdFits;
+            third = value;
+            thirdFits = fits;
+            found++;
+        }
+
+        // defaultY is a block Y; the converter reads y in the source space's units.
+        int fallbackY = space.hasY() ? defaultY >> space.getVerticalShift() : defaultY;
+        if (hasX && hasZ) {
+            boolean useY = hasY && space.hasY();
+            x[index] = (int) labelX;
+            y[index] = useY ? (int) labelY : fallbackY;
+            z[index] = (int) labelZ;
+            return labelXFits && labelZFits && (!useY || labelYFits) ? CoordinateConverter.OK : CoordinateConverter.OUT_OF_RANGE;
+        }
+        if (found < 2) return CoordinateConverter.NO_COORDINATES;
+        if (space.hasY() && run >= 3) {
+            x[index] = (int) first;
+            y[index] = (int) second;
+            z[index] = (int) third;
+            return firstFits && secondFits && thirdFits ? CoordinateConverter.OK : CoordinateConverter.OUT_OF_RANGE;
+        }
+        x[index] = (int) second;
+        y[index] = fallbackY;
+        z[index] = (int) third;
+        return secondFits && thirdFits ? CoordinateConverter.OK : CoordinateConverter.OUT_OF_RANGE;
+    }
+
+    /**
+     * The axis ({@code x}, {@code y} or {@code z}) a number starting at {@code start} is labelled
+     * with, as in {@code x=120} or {@code Z: -35}, or 0 if it has no label.
+     */
+    private static char label(String line, int start) {
+        int i = start - 1;
+        while (i >= 0 && line.charAt(i) == ' ') i--;
+        if (i < 0 || (line.charAt(i) != '=' && line.charAt(i) != ':')) return 0;
+        i--;
+        while (i >= 0 && line.charAt(i) == ' ') i--;
+        if (i < 0 || (i > 0 && Character.isLetterOrDigit(line.charAt(i - 1)))) return 0;
+        char axis = Character.toLowerCase(line.charAt(i));
+        return axis == 'x' || axis == 'y' || axis == 'z' ? axis : 0;
+    }
+
+    private static boolean onlySeparators(String line, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = line.charAt(i);
+            if (c != ' ' && c != '\t' && c != ',') return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,42 @@
+package com.thefryguy.frytools.client.coords;
+
+/**
+ * Coordinate systems the converter understands. Each one is a power-of-two scale of overworld
+ * block coordinates, so converting is a shift: a value names the block, chunk, region or section
+ * whose minimum corner is at {@code value << shift} blocks.
+ */
+public enum CoordinateSpace {
+    WORLD("World", 0, 0, "x,y,z"),
+    // Nether blocks span 8 overworld blocks; vanilla portals use floor(x / 8).
+    NETHER("Nether", 3, 0, "nether_x,y,nether_z"),
+    CHUNK("Chunk", 4, -1, "chunk_x,chunk_z"),
+    SECTION("Section", 4, 4, "section_x,section_y,section_z"),
+    REGION("Region", 9, -1, "region_x,region_z,file");
+
+    private final String label;
+    private final int horizontalShift;
+    private final int verticalShift;
+    private final String csvHeader;
+
+    CoordinateSpace(String label, int horizontalShift, int verticalShift, String csvHeader) {
+        this.label = label;
+        this.horizontalShift = horizontalShift;
+        this.verticalShift = verticalShift;
+        this.csvHeader = csvHeader;
+    }
+
+    public int getHorizontalShift() { return horizontalShift; }
+
+    /**
+     * Shift of the Y axis; only meaningful if {@link #hasY()}.
+     */
+    public int getVerticalShift() { return verticalShift; }
+
+    public boolean hasY() { return verticalShift >= 0; }
+    String getCsvHeader() { return csvHeader; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,189 @@
+package com.thefryguy.frytools.client.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+
+import java.util.Arrays;
+
+/**
+ * Per-type entity counts sampled at a fixed tick interval into fixed-size ring buffers, so
+ * hours of history fit in bounded memory. Sampling reads the tracker's set sizes and writes
+ * a few ints per type; nothing is allocated once a type has its buffer.
+ * <p>
+ * Sampling and {@link #snapshot} both run on the client thread.
+ */
+public final class EntityHistory {
+    private static final EntityHistory INSTANCE = new EntityHistory();
+    // One sample every 5 seconds, 6 hours of history.
+    private static final int SAMPLE_INTERVAL_TICKS = 100;
+    private static final int CAPACITY = 4320;
+    // Growth is judged over the last 10 minutes of samples.
+    private static final int GROWTH_WINDOW = 120;
+    private static final int MIN_GROWTH_SAMPLES = 12;
+
+    private final long[] sampleMillis = new long[CAPACITY];
+    // Ring buffers by raw entity type id, created when a type is first seen.
+    private int[][] countsByType = new int[0][];
+    private int head;
+    private int size;
+    private int ticksUntilSample;
+    private ClientWorld sampledWorld;
+
+    private EntityHistory() {
+    }
+
+    public static EntityHistory getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(this::clear));
+    }
+
+    private void onTick(MinecraftClient client) {
+        if (client.world == null || --ticksUntilSample > 0) return;
+        ticksUntilSample = SAMPLE_INTERVAL_TICKS;
+        if (client.world != sampledWorld) {
+            clear();
+            sampledWorld = client.world;
+        }
+        sample(EntityTracker.getInstance());
+    }
+
+    private void sample(EntityTracker tracker) {
+        int types = tracker.getTypeSlots();
+        if (types > countsByType.length) countsByType = Arrays.copyOf(countsByType, types);
+        for (int typeId = 0; typeId < countsByType.length; typeId++) {
+            int count = typeId < types ? tracker.getCount(typeId) : 0;
+            int[] ring = countsByType[typeId];
+            if (ring == null) {
+                if (count == 0) continue;
+                ring = new int[CAPACITY];
+                countsByType[typeId] = ring;
+            }
+            ring[head] = count;
+        }
+        sampleMillis[head] = System.currentTimeMillis();
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) size++;
+    }
+
+    public void clear() {
+        countsByType = new int[0][];
+        head = 0;
+        size = 0;
+        sampledWorld = null;
+    }
+
+    /**
+     * Downsamples every type's history to at most {@code points} values and fits its recent growth.
+     */
+    public Snapshot snapshot(int points) {
+        Int2ObjectOpenHashMap<Series> series = new Int2ObjectOpenHashMap<>();
+        for (int typeId = 0; typeId < countsByType.length; typeId++) {
+            int[] ring = countsByType[typeId];
+            if (ring != null) series.put(typeId, buildSeries(ring, points));
+        }
+        return new Snapshot(series, size, size == 0 ? 0 : sampleMillis[index(0)]);
+    }
+
+    private int index(int age) {
+        // age 0 is the oldest retained sample.
+        return (head - size + age + CAPACITY) % CAPACITY;
+    }
+
+    private Series buildSeries(int[] ring, int points) {
+        int buckets = Math.min(points, size);
+        float[] values = new float[buckets];
+        // Each bucket keeps its maximum, so short spikes stay visible.
+        for (int b = 0; b < buckets; b++) {
+            int from = (int) ((long) b * size / buckets);
+            int to = (int) ((long) (b + 1) * size / buckets);
+            int max = 0;
+            for (int age = from; age < to; age++) max = Math.max(max, ring[index(age)]);
+            values[b] = max;
+        }
+
+        // Least-squares fit of count against minutes over the growth window.
+        int n = Math.min(size, GROWTH_WINDOW);
+        double perMinute = 0;
+        double correlation = 0;
+        if (n >= MIN_GROWTH_SAMPLES) {
+            long t0 = sampleMillis[index(size - n)];
+            double sumX = 0, sumY = 0, sumXX = 0, sumYY = 0, sumXY = 0;
+            for (int age = size - n; age < size; age++) {
+                double x = (sampleMillis[index(age)] - t0) / 60_000.0;
+                double y = ring[index(age)];
+                sumX += x;
+                sumY += y;
+                sumXX += x * x;
+                sumYY += y * y;
+                sumXY += x * y;
+            }
+            double covariance = n * sumXY - sumX * sumY;
+            double varianceX = n * sumXX - sumX * sumX;
+            double varianceY = n * sumYY - sumY * sumY;
+            if (varianceX > 0) perMinute = covariance / varianceX;
+            if (varianceX > 0 && varianceY > 0) correlation = covariance / Math.sqrt(varianceX * varianceY);
+        }
+        return new Series(values, size == 0 ? 0 : ring[index(size - 1)], perMinute, correlation);
+    }
+
+    /**
+     * Immutable view of the history of every type seen since the last reset.
+     */
+    public static final class Snapshot {
+        public static final Snapshot EMPTY = new Snapshot(new Int2ObjectOpenHashMap<>(), 0, 0);
+
+        private final Int2ObjectOpenHashMap<Series> seriesByType;
+        private final int sampleCount;
+        private final long firstSampleMillis;
+
+        private Snapshot(Int2ObjectOpenHashMap<Series> seriesByType, int sampleCount, long firstSampleMillis) {
+            this.seriesByType = seriesByType;
+            this.sampleCount = sampleCount;
+            this.firstSampleMillis = firstSampleMillis;
+        }
+
+        /**
+         * History of a raw entity type id, or null if the type was never seen.
+         */
+        public Series get(int typeId) { return seriesByType.get(typeId); }
+        public int getSampleCount() { return sampleCount; }
+        public long getFirstSampleMillis() { return firstSampleMillis; }
+    }
+
+    /**
+     * Downsampled counts of one type, oldest first, with the fitted growth over the last minutes.
+     */
+    public static final class Series {
+        private final float[] values;
+        private final int latest;
+        private final double perMinute;
+        private final double correlation;
+
+        private Series(float[] values, int latest, double perMinute, double correlation) {
+            this.values = values;
+            this.latest = latest;
+            this.perMinute = perMinute;
+            this.correlation = correlation;
+        }
+
+        public int size() { return values.length; }
+        public float get(int index) { return values[index]; }
+        public int getLatest() { return latest; }
+        public double getPerMinute() { return perMinute; }
+
+        /**
+         * True if the count rose by at least {@code ratePerMinute} and did so steadily rather
+         * than in one jump, judged by how well a straight line fits the recent samples.
+         */
+        public boolean isGrowingFasterThan(double ratePerMinute) {
+            return perMinute >= ratePerMinute && correlation >= 0.9;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.thefryguy.frytools.client.entity;
+
+/**
+ * Immutable result of one entity snapshot: per-type counts plus a few sampled entities per
+ * type. Stored in flat arrays indexed by type slot and sample slot.
+ */
+public final class EntitySnapshot {
+    public static final EntitySnapshot EMPTY = new EntitySnapshot(new int[0], new int[0], new int[0],
+            new int[0], new int[0], new int[0], new int[0], new String[0], 0, 0);
+
+    private final int[] typeIds;
+    private final int[] counts;
+    private final int[] sampleTypeIds;
+    private final int[] sampleEntityIds;
+    private final int[] sampleX;
+    private final int[] sampleY;
+    private final int[] sampleZ;
+    private final String[] sampleUuids;
+    private final int totalEntities;
+    private final long collectNanos;
+
+    EntitySnapshot(int[] typeIds, int[] counts, int[] sampleTypeIds, int[] sampleEntityIds, int[] sampleX,
+                   int[] sampleY, int[] sampleZ, String[] sampleUuids, int totalEntities, long collectNanos) {
+        this.typeIds = typeIds;
+        this.counts = counts;
+        this.sampleTypeIds = sampleTypeIds;
+        this.sampleEntityIds = sampleEntityIds;
+        this.sampleX = sampleX;
+        this.sampleY = sampleY;
+        this.sampleZ = sampleZ;
+        this.sampleUuids = sampleUuids;
+        this.totalEntities = totalEntities;
+        this.collectNanos = collectNanos;
+    }
+
+    public int getTypeCount() { return typeIds.length; }
+    public int getTypeId(int typeSlot) { return typeIds[typeSlot]; }
+    public String getTypeName(int typeSlot) { return EntityTypeNames.get(typeIds[typeSlot]); }
+    public int getCount(int typeSlot) { return counts[typeSlot]; }
+
+    public int getSampleCount() { return sampleEntityIds.length; }
+    public int getSampleTypeId(int sample) { return sampleTypeIds[sample]; }
+    public int getSampleEntityId(int sample) { return sampleEntityIds[sample]; }
+    public int getSampleX(int sample) { return sampleX[sample]; }
+    public int getSampleY(int sample) { return sampleY[sample]; }
+    public int getSampleZ(int sample) { return sampleZ[sample]; }
+    public String getSampleUuid(int sample) { return sampleUuids[sample]; }
+
+    public int getTotalEntities() { return totalEntities; }
+    public long getCollectNanos() { return collectNanos; }
+}
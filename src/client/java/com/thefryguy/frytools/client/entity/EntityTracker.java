@@ -0,0 +1,165 @@
+package com.thefryguy.frytools.client.entity;
+
+import com.thefryguy.frytools.client.scan.ChunkDensity;
+import com.thefryguy.frytools.client.scan.ChunkTypeCounter;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Live set of the entities loaded in the client world, grouped by raw entity type id and kept
+ * up to date from entity load/unload events, so snapshots never walk the whole world.
+ * <p>
+ * Positions are only read when a snapshot is taken, and only for the few entities per type the
+ * snapshot samples. All access happens on the client thread.
+ */
+public final class EntityTracker {
+    private static final EntityTracker INSTANCE = new EntityTracker();
+
+    // Insertion ordered, so the sampled entities of a type stay the same between snapshots.
+    private final List<ReferenceLinkedOpenHashSet<Entity>> entitiesByType = new ArrayList<>();
+    private ClientWorld trackedWorld;
+    private int trackedCount;
+    private final ChunkTypeCounter chunkCounter = new ChunkTypeCounter();
+
+    private EntityTracker() {
+    }
+
+    public static EntityTracker getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientEntityEvents.ENTITY_LOAD.register(this::onEntityLoad);
+        ClientEntityEvents.ENTITY_UNLOAD.register(this::onEntityUnload);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(this::clear));
+    }
+
+    private void onEntityLoad(Entity entity, ClientWorld world) {
+        if (world != trackedWorld) {
+            clear();
+            trackedWorld = world;
+        }
+        if (typeSet(EntityTypeNames.rawId(entity.getType())).add(entity)) trackedCount++;
+    }
+
+    private void onEntityUnload(Entity entity, ClientWorld world) {
+        if (world != trackedWorld) return;
+        int typeId = EntityTypeNames.rawId(entity.getType());
+        if (typeId < entitiesByType.size() && entitiesByType.get(typeId).remove(entity)) trackedCount--;
+    }
+
+    private ReferenceLinkedOpenHashSet<Entity> typeSet(int typeId) {
+        while (entitiesByType.size() <= typeId) entitiesByType.add(new ReferenceLinkedOpenHashSet<>());
+        return entitiesByType.get(typeId);
+    }
+
+    public void clear() {
+        for (ReferenceLinkedOpenHashSet<Entity> entities : entitiesByType) entities.clear();
+        trackedWorld = null;
+        trackedCount = 0;
+    }
+
+    /**
+     * Rebuilds the sets from the world once, for a world whose load events were missed.
+     */
+    private void resync(ClientWorld world) {
+        clear();
+        trackedWorld = world;
+        for (Entity entity : world.getEntities()) {
+            if (typeSet(EntityTypeNames.rawId(entity.getType())).add(entity)) trackedCount++;
+        }
+    }
+
+    /**
+     * Per-type counts of the given world plus the positions of up to {@code samplesPerType}
+     * entities of each type. {@code exclude}, usually the local player, is left out of both.
+     */
+    public EntitySnapshot snapshot(ClientWorld world, Entity exclude, int samplesPerType) {
+        long start = System.nanoTime();
+        if (world != trackedWorld) resync(world);
+
+        int types = 0;
+        int samples = 0;
+        for (ReferenceLinkedOpenHashSet<Entity> entities : entitiesByType) {
+            int count = entities.size() - (entities.contains(exclude) ? 1 : 0);
+            if (count == 0) continue;
+            types++;
+            samples += Math.min(count, samplesPerType);
+        }
+
+        int[] typeIds = new int[types];
+        int[] counts = new int[types];
+        int[] sampleTypeIds = new int[samples];
+        int[] sampleIds = new int[samples];
+        int[] sampleX = new int[samples];
+        int[] sampleY = new int[samples];
+        int[] sampleZ = new int[samples];
+        String[] sampleUuids = new String[samples];
+        int typeSlot = 0;
+        int sampleSlot = 0;
+        int total = 0;
+        for (int typeId = 0; typeId < entitiesByType.size(); typeId++) {
+            ReferenceLinkedOpenHashSet<Entity> entities = entitiesByType.get(typeId);
+            int count = entities.size() - (entities.contains(exclude) ? 1 : 0);
+            if (count == 0) continue;
+            typeIds[typeSlot] = typeId;
+            counts[typeSlot++] = count;
+            total += count;
+
+            int typeSamples = Math.min(count, samplesPerType);
+            Arrays.fill(sampleTypeIds, sampleSlot, sampleSlot + typeSamples, typeId);
+            for (Entity entity : entities) {
+                if (typeSamples == 0) break;
+                if (entity == exclude) continue;
+                sampleIds[sampleSlot] = entity.getId();
+                sampleX[sampleSlot] = entity.getBlockX();
+                sampleY[sampleSlot] = entity.getBlockY();
+                sampleZ[sampleSlot] = entity.getBlockZ();
+                sampleUuids[sampleSlot++] = entity.getUuidAsString();
+                typeSamples--;
+            }
+        }
+
+        return new EntitySnapshot(typeIds, counts, sampleTypeIds, sampleIds, sampleX, sampleY, sampleZ, sampleUuids,
+                total, System.nanoTime() - start);
+    }
+
+    /**
+     * Per-chunk entity counts of the given world and the {@code topN} busiest chunks with their
+     * per-type breakdown, all from one pass over the tracked entities.
+     */
+    public ChunkDensity chunkDensity(ClientWorld world, Entity exclude, int centerChunkX, int centerChunkZ, int topN) {
+        long start = System.nanoTime();
+        if (world != trackedWorld) resync(world);
+        chunkCounter.clear();
+        for (int typeId = 0; typeId < entitiesByType.size(); typeId++) {
+            for (Entity entity : entitiesByType.get(typeId)) {
+                if (entity != exclude) chunkCounter.add(ChunkPos.toLong(entity.getBlockX() >> 4, entity.getBlockZ() >> 4), typeId);
+            }
+        }
+        return chunkCounter.toDensity(centerChunkX, centerChunkZ, topN, System.nanoTime() - start);
+    }
+
+    /**
+     * Upper bound (exclusive) of the raw type ids that have been tracked so far.
+     */
+    public int getTypeSlots() {
+        return entitiesByType.size();
+    }
+
+    public int getCount(int typeId) {
+        return typeId < entitiesByType.size() ? entitiesByType.get(typeId).size() : 0;
+    }
+
+    public int getTrackedCount() {
+        return trackedCount;
+    }
+}
@@ -0,0 +1,46 @@
+package com.thefryguy.frytools.client.entity;
+
+import com.thefryguy.frytools.client.DisplayNames;
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
+
+import java.util.Arrays;
+
+/**
+ * Display names of entity types, computed once per type and looked up by raw registry id.
+ */
+public final class EntityTypeNames {
+    private static String[] names = new String[0];
+
+    private EntityTypeNames() {
+    }
+
+    public static int rawId(EntityType<?> type) {
+        return Registries.ENTITY_TYPE.getRawId(type);
+    }
+
+    /**
+     * Number of registered entity types; raw ids are always below this.
+     */
+    public static int typeCount() {
+        return Registries.ENTITY_TYPE.size();
+    }
+
+    public static String get(int rawId) {
+        if (rawId >= names.length) names = Arrays.copyOf(names, Math.max(rawId + 1, typeCount()));
+        String name = names[rawId];
+        if (name == null) {
+            EntityType<?> type = Registries.ENTITY_TYPE.get(rawId);
+            name = type != null ? clean(type.getTranslationKey()) : "Unknown";
+            names[rawId] = name;
+        }
+        return name;
+    }
+
+    /**
+     * Turns e.g. {@code entity.minecraft.glow_item_frame} into {@code Glow Item Frame}.
+     */
+    private static String clean(String translationKey) {
+        return DisplayNames.fromPath(translationKey.substring(translationKey.lastIndexOf('.') + 1));
+    }
+}
@@ -0,0 +1,49 @@
+package com.thefryguy.frytools.client.export;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * One column of an export: a name and how to read its value from a row.
+ *
+ * @param <T> row type
+ */
+public final class ExportColumn<T> {
+    enum Type { TEXT, NUMBER, TIMESTAMP }
+
+    private final String name;
+    private final Type type;
+    private final Function<T, String> textGetter;
+    private final ToLongFunction<T> numberGetter;
+
+    private ExportColumn(String name, Type type, Function<T, String> textGetter, ToLongFunction<T> numberGetter) {
+        this.name = name;
+        this.type = type;
+        this.textGetter = textGetter;
+        this.numberGetter = numberGetter;
+    }
+
+    public static <T> ExportColumn<T> text(String name, Function<T, String> getter) {
+        return new ExportColumn<>(name, Type.TEXT, getter, null);
+    }
+
+    public static <T> ExportColumn<T> constant(String name, String value) {
+        return new ExportColumn<>(name, Type.TEXT, row -> value, null);
+    }
+
+    public static <T> ExportColumn<T> number(String name, ToLongFunction<T> getter) {
+        return new ExportColumn<>(name, Type.NUMBER, null, getter);
+    }
+
+    /**
+     * Epoch milliseconds, written as an ISO-8601 instant.
+     */
+    public static <T> ExportColumn<T> timestamp(String name, ToLongFunction<T> getter) {
+        return new ExportColumn<>(name, Type.TIMESTAMP, null, getter);
+    }
+
+    String getName() { return name; }
+    Type getType() { return type; }
+    String getText(T row) { return textGetter.apply(row); }
+    long getNumber(T row) { return numberGetter.applyAsLong(row); }
+}
@@ -0,0 +1,32 @@
+package com.thefryguy.frytools.client.export;
+
+/**
+ * File formats supported by the {@link ResultExporter}.
+ */
+public enum ExportFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Guesses the format and compression from a file name such as {@code signs.ndjson.gz}.
+     */
+    public static ExportFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase();
+        if (name.endsWith(".gz")) name = name.substring(0, name.length() - 3);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+
+    public static boolean isGzipFileName(String fileName) {
+        return fileName.toLowerCase().endsWith(".gz");
+    }
+}
@@ -0,0 +1,196 @@
+package com.thefryguy.frytools.client.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams rows to a CSV or NDJSON file, optionally gzip-compressed, on a background executor.
+ * <p>
+ * Rows are read straight from the given list, which must not change while the export runs
+ * (e.g. an immutable snapshot), so no second copy of the data is held. Output goes to a
+ * temporary file that replaces the target only once everything has been written.
+ */
+public final class ResultExporter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    // Rows between two progress callbacks.
+    private static final int PROGRESS_INTERVAL = 4096;
+
+    private ResultExporter() {
+    }
+
+    public static <T> CompletableFuture<ExportResult> export(List<T> rows, List<ExportColumn<T>> columns, Path target,
+                                                             ExportFormat format, boolean gzip,
+                                                             LongConsumer progress, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return write(rows, columns, target, format, gzip, progress);
+            } catch (IOException e) {
+                throw new ExportException(e);
+            }
+        }, executor);
+    }
+
+    static <T> ExportResult write(List<T> rows, List<ExportColumn<T>> columns, Path target, ExportFormat format,
+                                  boolean gzip, LongConsumer progress) throws IOException {
+        long start = System.nanoTime();
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        long rowCount = 0;
+
+        try {
+            try (OutputStream fileOut = Files.newOutputStream(temp);
+                 OutputStream out = gzip ? new GZIPOutputStream(fileOut, BUFFER_SIZE) : fileOut;
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                if (format == ExportFormat.CSV) writeCsvHeader(writer, columns);
+                for (T row : rows) {
+                    if (format == ExportFormat.CSV) writeCsvRow(writer, columns, row);
+                    else writeJsonRow(writer, columns, row);
+                    if (++rowCount % PROGRESS_INTERVAL == 0) progress.accept(rowCount);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deletePartial(temp, e);
+            throw e;
+        } catch (RuntimeException e) {
+            // A throwing column getter must not leave the partial file behind either.
+            deletePartial(temp, e);
+            throw e;
+        }
+
+        progress.accept(rowCount);
+        return new ExportResult(target, rowCount, Files.size(target), System.nanoTime() - start);
+    }
+
+    /**
+     * Deletes the partial output of a failed write; a failure to delete is attached to the
+     * original error rather than replacing it.
+     */
+    public static void deletePartial(Path temp, Exception cause) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException suppressed) {
+            cause.addSuppressed(suppressed);
+        }
+    }
+
+    private static <T> void writeCsvHeader(Writer writer, List<ExportColumn<T>> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(columns.get(i).getName());
+        }
+        writer.write('\n');
+    }
+
+    private static <T> void writeCsvRow(Writer writer, List<ExportColumn<T>> columns, T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) writer.write(',');
+            ExportColumn<T> column = columns.get(i);
+            switch (column.getType()) {
+                case NUMBER -> writer.write(Long.toString(column.getNumber(row)));
+                case TIMESTAMP -> writer.write(Instant.ofEpochMilli(column.getNumber(row)).toString());
+                case TEXT -> writeCsvText(writer, column.getText(row));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        writer.write('"');
+        // Write unescaped runs in one call; only embedded quotes need doubling.
+        int runStart = 0;
+        int quote = value.indexOf('"');
+        while (quote >= 0) {
+            writer.write(value, runStart, quote + 1 - runStart);
+            writer.write('"');
+            runStart = quote + 1;
+            quote = value.indexOf('"', runStart);
+        }
+        writer.write(value, runStart, value.length() - runStart);
+        writer.write('"');
+    }
+
+    private static <T> void writeJsonRow(Writer writer, List<ExportColumn<T>> columns, T row) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) writer.write(',');
+            ExportColumn<T> column = columns.get(i);
+            writeJsonString(writer, column.getName());
+            writer.write(':');
+            switch (column.getType()) {
+                case NUMBER -> writer.write(Long.toString(column.getNumber(row)));
+                case TIMESTAMP -> writeJsonString(writer, Instant.ofEpochMilli(column.getNumber(row)).toString());
+                case TEXT -> writeJsonString(writer, column.getText(row));
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        int runStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') continue;
+            writer.write(value, runStart, i - runStart);
+            runStart = i + 1;
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    writer.write("\\u00");
+                    writer.write(Character.forDigit(c >> 4, 16));
+                    writer.write(Character.forDigit(c & 0xF, 16));
+                }
+            }
+        }
+        writer.write(value, runStart, value.length() - runStart);
+        writer.write('"');
+    }
+
+    /**
+     * Summary of a finished export.
+     */
+    public static final class ExportResult {
+        private final Path file;
+        private final long rows;
+        private final long bytes;
+        private final long elapsedNanos;
+
+        ExportResult(Path file, long rows, long bytes, long elapsedNanos) {
+            this.file = file;
+            this.rows = rows;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public Path getFile() { return file; }
+        public long getRows() { return rows; }
+        public long getBytes() { return bytes; }
+        public long getElapsedNanos() { return elapsedNanos; }
+    }
+
+    /**
+     * Unchecked wrapper so I/O failures can travel through the returned future.
+     */
+    public static final class ExportException extends RuntimeException {
+        ExportException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.thefryguy.frytools.client.perf;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.chunk.ChunkBuilder;
+import net.minecraft.client.world.ClientChunkManager;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+
+
+/**
+ * Chunk streaming and rebuild figures, sampled once a second into fixed ring buffers.
+ * Received chunks are counted from chunk load events, and a teleport is any jump of more
+ * than {@link #TELEPORT_BLOCKS} between ticks or a world change. The time until the chunks
+ * around the new position are loaded is kept for the last few teleports.
+ * <p>
+ * Everything runs on the client thread.
+ */
+public final class ChunkMetrics {
+    private static final ChunkMetrics INSTANCE = new ChunkMetrics();
+    private static final int SAMPLE_INTERVAL_TICKS = 20;
+    // Ten minutes of one-second samples.
+    public static final int CAPACITY = 600;
+    private static final int TELEPORT_HISTORY = 16;
+    private static final double TELEPORT_BLOCKS = 64;
+    // A teleport counts as loaded once this many chunk rings around the player are present.
+    public static final int TELEPORT_LOADED_RADIUS = 2;
+
+    private final int[] loadedChunks = new int[CAPACITY];
+    private final int[] receivedPerSecond = new int[CAPACITY];
+    private final int[] pendingRebuilds = new int[CAPACITY];
+    private final int[] loadedRadius = new int[CAPACITY];
+    private int head;
+    private int size;
+    private int ticksUntilSample = SAMPLE_INTERVAL_TICKS;
+    private int receivedSinceSample;
+    private long lastSampleNanos = System.nanoTime();
+
+    private final long[] teleportLoadNanos = new long[TELEPORT_HISTORY];
+    private int teleportHead;
+    private int teleportCount;
+    private long teleportStartNanos;
+    private ClientWorld lastWorld;
+    private double lastX;
+    private double lastZ;
+
+    private ChunkMetrics() {
+    }
+
+    public static ChunkMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientChunkEvents.CHUNK_LOAD.register((world, chunk) -> receivedSinceSample++);
+        ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(this::clear));
+    }
+
+    private void onTick(MinecraftClient client) {
+        if (client.world == null || client.player == null) return;
+        double x = client.player.getX();
+        double z = client.player.getZ();
+        if (client.world != lastWorld || Math.abs(x - lastX) > TELEPORT_BLOCKS || Math.abs(z - lastZ) > TELEPORT_BLOCKS) {
+            teleportStartNanos = System.nanoTime();
+        }
+        lastWorld = client.world;
+        lastX = x;
+        lastZ = z;
+
+        int chunkX = ChunkSectionPos.getSectionCoord(x);
+        int chunkZ = ChunkSectionPos.getSectionCoord(z);
+        if (teleportStartNanos != 0
+                && loadedRadius(client.world.getChunkManager(), chunkX, chunkZ, TELEPORT_LOADED_RADIUS) >= TELEPORT_LOADED_RADIUS) {
+            teleportLoadNanos[teleportHead] = System.nanoTime() - teleportStartNanos;
+            teleportHead = (teleportHead + 1) % TELEPORT_HISTORY;
+            if (teleportCount < TELEPORT_HISTORY) teleportCount++;
+            teleportStartNanos = 0;
+        }
+
+        if (--ticksUntilSample > 0) return;
+        ticksUntilSample = SAMPLE_INTERVAL_TICKS;
+        long now = System.nanoTime();
+        ClientChunkManager chunkManager = client.world.getChunkManager();
+        ChunkBuilder chunkBuilder = client.worldRenderer.getChunkBuilder();
+
+        loadedChunks[head] = chunkManager.getLoadedChunkCount();
+        receivedPerSecond[head] = (int) Math.round(receivedSinceSample * 1_000_000_000.0 / Math.max(1, now - lastSampleNanos));
+        pendingRebuilds[head] = chunkBuilder != null ? chunkBuilder.getToBatchCount() : 0;
+        loadedRadius[head] = loadedRadius(chunkManager, chunkX, chunkZ, client.options.getClampedViewDistance());
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) size++;
+        receivedSinceSample = 0;
+        lastSampleNanos = now;
+    }
+
+    /**
+     * Largest ring radius around the chunk, up to {@code maxRadius}, in which every chunk is loaded.
+     */
+    private static int loadedRadius(ClientChunkManager chunkManager, int centerX, int centerZ, int maxRadius) {
+        if (!chunkManager.isChunkLoaded(centerX, centerZ)) return -1;
+        for (int radius = 1; radius <= maxRadius; radius++) {
+            for (int i = -radius; i <= radius; i++) {
+                if (!chunkManager.isChunkLoaded(centerX + i, centerZ - radius)
+                        || !chunkManager.isChunkLoaded(centerX + i, centerZ + radius)
+                        || !chunkManager.isChunkLoaded(centerX - radius, centerZ + i)
+                        || !chunkManager.isChunkLoaded(centerX + radius, centerZ + i)) {
+                    return radius - 1;
+                }
+            }
+        }
+        return maxRadius;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        teleportCount = 0;
+        teleportStartNanos = 0;
+        lastWorld = null;
+    }
+
+    public ChunkStats snapshot(MinecraftClient client) {
+        int[] loaded = new int[size];
+        int[] received = new int[size];
+        int[] pending = new int[size];
+        int[] radius = new int[size];
+        for (int age = 0; age < size; age++) {
+            int index = (head - size + age + CAPACITY) % CAPACITY;
+            loaded[age] = loadedChunks[index];
+            received[age] = receivedPerSecond[index];
+            pending[age] = pendingRebuilds[index];
+            radius[age] = loadedRadius[index];
+        }
+        long[] teleports = new long[teleportCount];
+        for (int i = 0; i < teleportCount; i++) {
+            // Most recent first.
+            teleports[i] = teleportLoadNanos[(teleportHead - 1 - i + TELEPORT_HISTORY) % TELEPORT_HISTORY];
+        }
+        long loading = teleportStartNanos == 0 ? -1 : System.nanoTime() - teleportStartNanos;
+        return new ChunkStats(loaded, received, pending, radius, client.options.getClampedViewDistance(), teleports, loading);
+    }
+}
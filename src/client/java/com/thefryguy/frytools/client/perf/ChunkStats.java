@@ -0,0 +1,47 @@
+package com.thefryguy.frytools.client.perf;
+
+/**
+ * Immutable chunk streaming history, one value per second, oldest first.
+ */
+public final class ChunkStats {
+    private final int[] loadedChunks;
+    private final int[] receivedPerSecond;
+    private final int[] pendingRebuilds;
+    private final int[] loadedRadius;
+    private final int renderDistance;
+    private final long[] teleportLoadNanos;
+    private final long currentTeleportNanos;
+
+    ChunkStats(int[] loadedChunks, int[] receivedPerSecond, int[] pendingRebuilds, int[] loadedRadius,
+               int renderDistance, long[] teleportLoadNanos, long currentTeleportNanos) {
+        this.loadedChunks = loadedChunks;
+        this.receivedPerSecond = receivedPerSecond;
+        this.pendingRebuilds = pendingRebuilds;
+        this.loadedRadius = loadedRadius;
+        this.renderDistance = renderDistance;
+        this.teleportLoadNanos = teleportLoadNanos;
+        this.currentTeleportNanos = currentTeleportNanos;
+    }
+
+    public int size() { return loadedChunks.length; }
+    public int getLoadedChunks(int index) { return loadedChunks[index]; }
+    public int getReceivedPerSecond(int index) { return receivedPerSecond[index]; }
+    public int getPendingRebuilds(int index) { return pendingRebuilds[index]; }
+
+    /**
+     * Fully loaded chunk rings around the player; -1 if the player's own chunk is missing.
+     */
+    public int getLoadedRadius(int index) { return loadedRadius[index]; }
+    public int getRenderDistance() { return renderDistance; }
+
+    /**
+     * Time from each recent teleport until the chunks around the player loaded, most recent first.
+     */
+    public int getTeleportCount() { return teleportLoadNanos.length; }
+    public long getTeleportLoadNanos(int index) { return teleportLoadNanos[index]; }
+
+    /**
+     * Time since a teleport whose chunks are still loading, or -1.
+     */
+    public long getCurrentTeleportNanos() { return currentTeleportNanos; }
+}
@@ -0,0 +1,41 @@
+package com.thefryguy.frytools.client.perf;
+
+/**
+ * Immutable frame-time percentiles over the recorder's window. Percentiles are bucket upper
+ * edges, so they are accurate to 0.25 ms; the maximum is exact.
+ */
+public final class FrameStats {
+    public static final FrameStats EMPTY = new FrameStats(0, 0, 0, 0, 0, 0);
+
+    private final int frames;
+    private final double averageFps;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    FrameStats(int frames, double averageFps, double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+        this.frames = frames;
+        this.averageFps = averageFps;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public int getFrames() { return frames; }
+    public double getAverageFps() { return averageFps; }
+    public double getP50Millis() { return p50Millis; }
+    public double getP95Millis() { return p95Millis; }
+    public double getP99Millis() { return p99Millis; }
+    public double getMaxMillis() { return maxMillis; }
+
+    /**
+     * e.g. {@code 60 FPS - p50 16.50 / p95 17.25 / p99 33.50 / max 41.20 ms}.
+     */
+    public String describe() {
+        if (frames == 0) return "No frames recorded yet";
+        return String.format("%.0f FPS - p50 %.2f / p95 %.2f / p99 %.2f / max %.2f ms",
+                averageFps, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+}
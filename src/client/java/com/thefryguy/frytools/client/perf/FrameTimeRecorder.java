@@ -0,0 +1,89 @@
+package com.thefryguy.frytools.client.perf;
+
+import java.util.Arrays;
+
+/**
+ * Records the time between rendered frames into fixed-bucket histograms. Two histograms are
+ * kept and the older one is cleared every {@link #WINDOW_NANOS}, so percentiles always cover
+ * the last 10 to 20 seconds. Recording is a few array writes and allocates nothing.
+ * <p>
+ * Frames are recorded and read on the client (render) thread.
+ */
+public final class FrameTimeRecorder {
+    private static final FrameTimeRecorder INSTANCE = new FrameTimeRecorder();
+    // 0.25 ms buckets up to 250 ms; longer frames land in the last bucket, the max stays exact.
+    private static final long BUCKET_NANOS = 250_000L;
+    private static final int BUCKETS = 1001;
+    private static final long WINDOW_NANOS = 10_000_000_000L;
+
+    private int[] current = new int[BUCKETS];
+    private int[] previous = new int[BUCKETS];
+    private long currentMax;
+    private long previousMax;
+    private long currentTotalNanos;
+    private long previousTotalNanos;
+    private int currentFrames;
+    private int previousFrames;
+    private long windowStart;
+    private long lastFrame;
+
+    public FrameTimeRecorder() {
+    }
+
+    public static FrameTimeRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Called at the start of every frame with the current {@link System#nanoTime()}.
+     */
+    public void onFrame(long nanos) {
+        if (lastFrame != 0) {
+            if (nanos - windowStart >= WINDOW_NANOS) rotate(nanos);
+            long frameNanos = nanos - lastFrame;
+            current[(int) Math.min(BUCKETS - 1, frameNanos / BUCKET_NANOS)]++;
+            currentMax = Math.max(currentMax, frameNanos);
+            currentTotalNanos += frameNanos;
+            currentFrames++;
+        } else {
+            windowStart = nanos;
+        }
+        lastFrame = nanos;
+    }
+
+    private void rotate(long nanos) {
+        int[] cleared = previous;
+        previous = current;
+        current = cleared;
+        Arrays.fill(current, 0);
+        previousMax = currentMax;
+        previousTotalNanos = currentTotalNanos;
+        previousFrames = currentFrames;
+        currentMax = 0;
+        currentTotalNanos = 0;
+        currentFrames = 0;
+        windowStart = nanos;
+    }
+
+    public FrameStats snapshot() {
+        int frames = currentFrames + previousFrames;
+        if (frames == 0) return FrameStats.EMPTY;
+        long totalNanos = currentTotalNanos + previousTotalNanos;
+        return new FrameStats(frames, frames * 1_000_000_000.0 / totalNanos,
+                percentileMillis(frames, 0.50), percentileMillis(frames, 0.95), percentileMillis(frames, 0.99),
+                Math.max(currentMax, previousMax) / 1_000_000.0);
+    }
+
+    /**
+     * Upper edge of the bucket holding the given percentile, in milliseconds.
+     */
+    private double percentileMillis(int frames, double percentile) {
+        long rank = (long) Math.ceil(frames * percentile);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += current[bucket] + previous[bucket];
+            if (seen >= rank) return (bucket + 1) * BUCKET_NANOS / 1_000_000.0;
+        }
+        return BUCKETS * BUCKET_NANOS / 1_000_000.0;
+    }
+}
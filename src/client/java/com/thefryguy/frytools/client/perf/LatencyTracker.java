@@ -0,0 +1,150 @@
+package com.thefryguy.frytools.client.perf;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.client.network.PlayerListEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Latency history of every player in the player list. Each player gets a slot in flat
+ * primitive ring buffers; slots of players who leave are reused, so memory is bounded by
+ * the largest number of players online at once. Sampling allocates nothing per player.
+ * <p>
+ * Sampling and snapshots happen on the client thread.
+ */
+public final class LatencyTracker {
+    private static final LatencyTracker INSTANCE = new LatencyTracker();
+    // Servers refresh player-list latency every few seconds, so sampling faster adds nothing.
+    private static final int SAMPLE_INTERVAL_TICKS = 100;
+    // Ten minutes of history per player.
+    private static final int CAPACITY = 120;
+
+    private final Object2IntOpenHashMap<UUID> slotsByPlayer = new Object2IntOpenHashMap<>();
+    private UUID[] slotPlayers = new UUID[16];
+    private String[] slotNames = new String[16];
+    private int[] samples = new int[16 * CAPACITY];
+    private int[] sampleCounts = new int[16];
+    private int[] slotGenerations = new int[16];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    // Ring position shared by all slots; a slot's samples are the last sampleCounts[slot] positions.
+    private int head;
+    private int generation;
+    private int ticksUntilSample;
+
+    private LatencyTracker() {
+        slotsByPlayer.defaultReturnValue(-1);
+    }
+
+    public static LatencyTracker getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(this::clear));
+    }
+
+    private void onTick(MinecraftClient client) {
+        ClientPlayNetworkHandler networkHandler = client.getNetworkHandler();
+        if (networkHandler == null || --ticksUntilSample > 0) return;
+        ticksUntilSample = SAMPLE_INTERVAL_TICKS;
+
+        int stamp = ++generation;
+        for (PlayerListEntry entry : networkHandler.getPlayerList()) {
+            UUID player = entry.getProfile().getId();
+            int slot = slotsByPlayer.getInt(player);
+            if (slot < 0) slot = assignSlot(player, entry.getProfile().getName());
+            samples[slot * CAPACITY + head] = entry.getLatency();
+            if (sampleCounts[slot] < CAPACITY) sampleCounts[slot]++;
+            slotGenerations[slot] = stamp;
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotPlayers[slot] != null && slotGenerations[slot] != stamp) releaseSlot(slot);
+        }
+        head = (head + 1) % CAPACITY;
+    }
+
+    private int assignSlot(UUID player, String name) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = slotCount++;
+            if (slot == slotPlayers.length) grow(slot * 2);
+        }
+        slotsByPlayer.put(player, slot);
+        slotPlayers[slot] = player;
+        slotNames[slot] = name;
+        sampleCounts[slot] = 0;
+        return slot;
+    }
+
+    private void releaseSlot(int slot) {
+        slotsByPlayer.removeInt(slotPlayers[slot]);
+        slotPlayers[slot] = null;
+        slotNames[slot] = null;
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow(int slots) {
+        slotPlayers = Arrays.copyOf(slotPlayers, slots);
+        slotNames = Arrays.copyOf(slotNames, slots);
+        samples = Arrays.copyOf(samples, slots * CAPACITY);
+        sampleCounts = Arrays.copyOf(sampleCounts, slots);
+        slotGenerations = Arrays.copyOf(slotGenerations, slots);
+        freeSlots = Arrays.copyOf(freeSlots, slots);
+    }
+
+    public void clear() {
+        slotsByPlayer.clear();
+        Arrays.fill(slotPlayers, null);
+        Arrays.fill(slotNames, null);
+        freeCount = 0;
+        slotCount = 0;
+        head = 0;
+    }
+
+    /**
+     * Current, average, maximum and jitter of every tracked player, with up to {@code graphPoints}
+     * of their most recent samples, oldest first.
+     */
+    public List<PlayerLatency> snapshot(int graphPoints) {
+        List<PlayerLatency> players = new ArrayList<>(slotCount - freeCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            int count = sampleCounts[slot];
+            if (slotPlayers[slot] == null || count == 0) continue;
+
+            int base = slot * CAPACITY;
+            int oldest = (head - count + CAPACITY) % CAPACITY;
+            long sum = 0;
+            int max = 0;
+            long jitterSum = 0;
+            int previous = 0;
+            for (int age = 0; age < count; age++) {
+                int latency = samples[base + (oldest + age) % CAPACITY];
+                sum += latency;
+                max = Math.max(max, latency);
+                // Jitter is the mean change between consecutive samples.
+                if (age > 0) jitterSum += Math.abs(latency - previous);
+                previous = latency;
+            }
+
+            int points = Math.min(graphPoints, count);
+            int[] graph = new int[points];
+            for (int i = 0; i < points; i++) graph[i] = samples[base + (oldest + count - points + i) % CAPACITY];
+
+            players.add(new PlayerLatency(slotNames[slot], previous, sum / (double) count, max,
+                    count > 1 ? jitterSum / (double) (count - 1) : 0, graph));
+        }
+        return players;
+    }
+}
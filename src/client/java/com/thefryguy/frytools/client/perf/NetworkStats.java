@@ -0,0 +1,81 @@
+package com.thefryguy.frytools.client.perf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable per-packet-type traffic: totals since joining and rates since the previous snapshot.
+ */
+public final class NetworkStats {
+    public static final NetworkStats EMPTY = new NetworkStats(List.of(), 0);
+
+    private final List<Row> rows;
+    private final double countingOverheadNanos;
+
+    NetworkStats(List<Row> rows, double countingOverheadNanos) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.countingOverheadNanos = countingOverheadNanos;
+    }
+
+    public List<Row> getRows() { return rows; }
+
+    /**
+     * Average time spent counting one packet, measured on a sample of packets.
+     */
+    public double getCountingOverheadNanos() { return countingOverheadNanos; }
+
+    /**
+     * The {@code limit} types with the highest byte rate in one direction.
+     */
+    public List<Row> topByByteRate(boolean inbound, int limit) {
+        List<Row> top = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.isInbound() == inbound) top.add(row);
+        }
+        top.sort(Comparator.comparingDouble(Row::getBytesPerSecond).reversed());
+        return top.size() > limit ? top.subList(0, limit) : top;
+    }
+
+    public double totalBytesPerSecond(boolean inbound) {
+        double total = 0;
+        for (Row row : rows) {
+            if (row.isInbound() == inbound) total += row.getBytesPerSecond();
+        }
+        return total;
+    }
+
+    public double totalPacketsPerSecond(boolean inbound) {
+        double total = 0;
+        for (Row row : rows) {
+            if (row.isInbound() == inbound) total += row.getPacketsPerSecond();
+        }
+        return total;
+    }
+
+    public static final class Row {
+        private final boolean inbound;
+        private final String type;
+        private final long packets;
+        private final long bytes;
+        private final double packetsPerSecond;
+        private final double bytesPerSecond;
+
+        Row(boolean inbound, String type, long packets, long bytes, double packetsPerSecond, double bytesPerSecond) {
+            this.inbound = inbound;
+            this.type = type;
+            this.packets = packets;
+            this.bytes = bytes;
+            this.packetsPerSecond = packetsPerSecond;
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        public boolean isInbound() { return inbound; }
+        public String getType() { return type; }
+        public long getPackets() { return packets; }
+        public long getBytes() { return bytes; }
+        public double getPacketsPerSecond() { return packetsPerSecond; }
+        public double getBytesPerSecond() { return bytesPerSecond; }
+    }
+}
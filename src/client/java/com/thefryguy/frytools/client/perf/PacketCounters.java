@@ -0,0 +1,119 @@
+package com.thefryguy.frytools.client.perf;
+
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.network.packet.PacketType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Packets and bytes per packet type and direction, counted on the Netty threads by the
+ * encoder/decoder mixins. Counters are {@link LongAdder}s, so the network threads never
+ * contend with each other or with readers; byte counts are payload sizes before compression.
+ * <p>
+ * One packet in {@link #TIMING_INTERVAL} is timed to measure what the counting itself costs,
+ * from the moment the mixin sees the packet (packet id, size and counter lookup included).
+ */
+public final class PacketCounters {
+    private static final PacketCounters INSTANCE = new PacketCounters();
+    private static final int TIMING_INTERVAL = 64;
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<PacketType<?>, Counter> inbound = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<PacketType<?>, Counter> outbound = new ConcurrentHashMap<>();
+    private final LongAdder timedNanos = new LongAdder();
+    private final LongAdder timedPackets = new LongAdder();
+    // Picks which packets are timed; racy increments only shift which packet that is.
+    private int timingClock;
+    // Only read and written by the client thread when taking snapshots.
+    private long lastSnapshotNanos = System.nanoTime();
+
+    private PacketCounters() {
+    }
+
+    public static PacketCounters getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> reset());
+    }
+
+    /**
+     * Called by the mixins before they look at the packet; returns the start time if this
+     * packet is one of the timed ones, otherwise {@link #NOT_TIMED}. Pass the result on to
+     * {@link #recordInbound} or {@link #recordOutbound}.
+     */
+    public long startTiming() {
+        return (++timingClock & (TIMING_INTERVAL - 1)) == 0 ? System.nanoTime() : NOT_TIMED;
+    }
+
+    public void recordInbound(PacketType<?> type, int bytes, long timingStart) {
+        record(inbound, type, bytes, true, timingStart);
+    }
+
+    public void recordOutbound(PacketType<?> type, int bytes, long timingStart) {
+        record(outbound, type, bytes, false, timingStart);
+    }
+
+    private void record(ConcurrentHashMap<PacketType<?>, Counter> counters, PacketType<?> type, int bytes, boolean in,
+                        long timingStart) {
+        Counter counter = counters.get(type);
+        if (counter == null) counter = counters.computeIfAbsent(type, t -> new Counter(t, in));
+        counter.packets.increment();
+        counter.bytes.add(bytes);
+        if (timingStart != NOT_TIMED) {
+            timedNanos.add(System.nanoTime() - timingStart);
+            timedPackets.increment();
+        }
+    }
+
+    public void reset() {
+        inbound.clear();
+        outbound.clear();
+    }
+
+    /**
+     * Totals per type plus rates since the previous snapshot. Client thread only.
+     */
+    public NetworkStats snapshot() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-3, (now - lastSnapshotNanos) / 1_000_000_000.0);
+        lastSnapshotNanos = now;
+
+        List<NetworkStats.Row> rows = new ArrayList<>(inbound.size() + outbound.size());
+        addRows(inbound, seconds, rows);
+        addRows(outbound, seconds, rows);
+        long timed = timedPackets.sum();
+        double overheadNanos = timed == 0 ? 0 : timedNanos.sum() / (double) timed;
+        return new NetworkStats(rows, overheadNanos);
+    }
+
+    private static void addRows(ConcurrentHashMap<PacketType<?>, Counter> counters, double seconds, List<NetworkStats.Row> rows) {
+        for (Counter counter : counters.values()) {
+            long packets = counter.packets.sum();
+            long bytes = counter.bytes.sum();
+            rows.add(new NetworkStats.Row(counter.inbound, counter.type.id().getPath(), packets, bytes,
+                    (packets - counter.lastPackets) / seconds, (bytes - counter.lastBytes) / seconds));
+            counter.lastPackets = packets;
+            counter.lastBytes = bytes;
+        }
+    }
+
+    private static final class Counter {
+        private final PacketType<?> type;
+        private final boolean inbound;
+        private final LongAdder packets = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        // Totals at the previous snapshot, for rates.
+        private long lastPackets;
+        private long lastBytes;
+
+        private Counter(PacketType<?> type, boolean inbound) {
+            this.type = type;
+            this.inbound = inbound;
+        }
+    }
+}
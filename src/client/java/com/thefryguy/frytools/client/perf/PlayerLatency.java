@@ -0,0 +1,34 @@
+package com.thefryguy.frytools.client.perf;
+
+/**
+ * Immutable latency summary of one player, in milliseconds.
+ */
+public final class PlayerLatency {
+    private final String name;
+    private final int current;
+    private final double average;
+    private final int max;
+    private final double jitter;
+    private final int[] recent;
+
+    PlayerLatency(String name, int current, double average, int max, double jitter, int[] recent) {
+        this.name = name;
+        this.current = current;
+        this.average = average;
+        this.max = max;
+        this.jitter = jitter;
+        this.recent = recent;
+    }
+
+    public String getName() { return name; }
+    public int getCurrent() { return current; }
+    public double getAverage() { return average; }
+    public int getMax() { return max; }
+    public double getJitter() { return jitter; }
+    public int getRecentCount() { return recent.length; }
+
+    /**
+     * Recent samples for the graph, oldest first.
+     */
+    public int getRecent(int index) { return recent[index]; }
+}
@@ -0,0 +1,69 @@
+package com.thefryguy.frytools.client.perf;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+
+/**
+ * Reads GC and memory figures from the platform MXBeans. GC counts and times are reported as
+ * the change since the previous sample, so each snapshot shows what happened in between.
+ * <p>
+ * Only used from the client thread.
+ */
+public final class RuntimeSampler {
+    private static final RuntimeSampler INSTANCE = new RuntimeSampler();
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<BufferPoolMXBean> bufferPools = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final long[] lastCounts = new long[collectors.size()];
+    private final long[] lastMillis = new long[collectors.size()];
+    private long lastSampleNanos;
+
+    private RuntimeSampler() {
+        for (int i = 0; i < collectors.size(); i++) {
+            lastCounts[i] = Math.max(0, collectors.get(i).getCollectionCount());
+            lastMillis[i] = Math.max(0, collectors.get(i).getCollectionTime());
+        }
+        lastSampleNanos = System.nanoTime();
+    }
+
+    public static RuntimeSampler getInstance() {
+        return INSTANCE;
+    }
+
+    public RuntimeStats sample() {
+        long now = System.nanoTime();
+        String[] names = new String[collectors.size()];
+        long[] counts = new long[collectors.size()];
+        long[] millis = new long[collectors.size()];
+        for (int i = 0; i < collectors.size(); i++) {
+            GarbageCollectorMXBean collector = collectors.get(i);
+            // -1 means the collector doesn't report the figure.
+            long count = Math.max(0, collector.getCollectionCount());
+            long time = Math.max(0, collector.getCollectionTime());
+            names[i] = collector.getName();
+            counts[i] = count - lastCounts[i];
+            millis[i] = time - lastMillis[i];
+            lastCounts[i] = count;
+            lastMillis[i] = time;
+        }
+
+        long direct = 0;
+        long mapped = 0;
+        for (BufferPoolMXBean pool : bufferPools) {
+            if ("direct".equals(pool.getName())) direct = pool.getMemoryUsed();
+            else if ("mapped".equals(pool.getName())) mapped = pool.getMemoryUsed();
+        }
+
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+        long intervalNanos = now - lastSampleNanos;
+        lastSampleNanos = now;
+        return new RuntimeStats(names, counts, millis, intervalNanos, heap.getUsed(), heap.getCommitted(),
+                heap.getMax(), nonHeap.getUsed(), direct, mapped);
+    }
+}
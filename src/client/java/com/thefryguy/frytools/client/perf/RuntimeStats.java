@@ -0,0 +1,71 @@
+package com.thefryguy.frytools.client.perf;
+
+/**
+ * Immutable GC and memory figures. GC counts and times cover the interval since the previous
+ * sample; memory figures are the current use in bytes.
+ */
+public final class RuntimeStats {
+    private final String[] collectorNames;
+    private final long[] collectionCounts;
+    private final long[] collectionMillis;
+    private final long intervalNanos;
+    private final long heapUsed;
+    private final long heapCommitted;
+    private final long heapMax;
+    private final long nonHeapUsed;
+    private final long directUsed;
+    private final long mappedUsed;
+
+    RuntimeStats(String[] collectorNames, long[] collectionCounts, long[] collectionMillis, long intervalNanos,
+                 long heapUsed, long heapCommitted, long heapMax, long nonHeapUsed, long directUsed, long mappedUsed) {
+        this.collectorNames = collectorNames;
+        this.collectionCounts = collectionCounts;
+        this.collectionMillis = collectionMillis;
+        this.intervalNanos = intervalNanos;
+        this.heapUsed = heapUsed;
+        this.heapCommitted = heapCommitted;
+        this.heapMax = heapMax;
+        this.nonHeapUsed = nonHeapUsed;
+        this.directUsed = directUsed;
+        this.mappedUsed = mappedUsed;
+    }
+
+    public int getCollectorCount() { return collectorNames.length; }
+    public String getCollectorName(int index) { return collectorNames[index]; }
+    public long getCollectionCount(int index) { return collectionCounts[index]; }
+    public long getCollectionMillis(int index) { return collectionMillis[index]; }
+    public long getIntervalNanos() { return intervalNanos; }
+    public long getHeapUsed() { return heapUsed; }
+    public long getHeapCommitted() { return heapCommitted; }
+    public long getHeapMax() { return heapMax; }
+    public long getNonHeapUsed() { return nonHeapUsed; }
+    public long getDirectUsed() { return directUsed; }
+    public long getMappedUsed() { return mappedUsed; }
+
+    /**
+     * e.g. {@code G1 Young Generation 2x 14 ms, G1 Old Generation 0x in 1.0 s}.
+     */
+    public String describeGc() {
+        StringBuilder gc = new StringBuilder();
+        for (int i = 0; i < collectorNames.length; i++) {
+            if (i > 0) gc.append(", ");
+            gc.append(collectorNames[i]).append(' ').append(collectionCounts[i]).append('x');
+            if (collectionCounts[i] > 0) gc.append(' ').append(collectionMillis[i]).append(" ms");
+        }
+        gc.append(String.format(" in %.1f s", intervalNanos / 1_000_000_000.0));
+        return gc.toString();
+    }
+
+    /**
+     * e.g. {@code Heap 812 / 2048 MB (max 4096) - non-heap 190 MB - direct 64 MB, mapped 0 MB}.
+     */
+    public String describeMemory() {
+        return String.format("Heap %d / %d MB (max %s) - non-heap %d MB - direct %d MB, mapped %d MB",
+                toMegabytes(heapUsed), toMegabytes(heapCommitted), heapMax < 0 ? "-" : String.valueOf(toMegabytes(heapMax)),
+                toMegabytes(nonHeapUsed), toMegabytes(directUsed), toMegabytes(mappedUsed));
+    }
+
+    private static long toMegabytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
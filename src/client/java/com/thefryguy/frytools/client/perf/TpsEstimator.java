@@ -0,0 +1,103 @@
+package com.thefryguy.frytools.client.perf;
+
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+
+/**
+ * Estimates the server's tick rate from world-time update packets. The server sends one every
+ * 20 ticks, so the world-time advance between two packets divided by the wall time between
+ * them is the tick rate. Samples go into fixed ring buffers; recording and estimating
+ * allocate nothing.
+ * <p>
+ * {@link #record} is called on the network thread, estimates are read from other threads.
+ * Timestamps are passed in, so a separate instance can be driven by a synthetic packet feed.
+ */
+public final class TpsEstimator {
+    private static final TpsEstimator INSTANCE = new TpsEstimator();
+    public static final double TARGET_TPS = 20.0;
+    public static final long CURRENT_WINDOW_NANOS = 5_000_000_000L;
+    public static final long MINUTE_NANOS = 60_000_000_000L;
+    public static final long FIVE_MINUTES_NANOS = 300_000_000_000L;
+    // Five minutes of packets at one per second, with room for bursts after lag.
+    private static final int CAPACITY = 512;
+    // Without a packet for this long the server is treated as stalled, and the gap counts.
+    private static final long STALL_NANOS = 3_000_000_000L;
+
+    private final long[] receivedNanos = new long[CAPACITY];
+    private final long[] worldTicks = new long[CAPACITY];
+    private int head;
+    private int size;
+
+    public TpsEstimator() {
+    }
+
+    public static TpsEstimator getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> reset());
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> reset());
+    }
+
+    /**
+     * Records a world-time packet received at {@code nanos} carrying world age {@code worldTime}.
+     */
+    public synchronized void record(long nanos, long worldTime) {
+        if (size > 0) {
+            int last = (head - 1 + CAPACITY) % CAPACITY;
+            // World age only goes backwards when the world changed; start over.
+            if (worldTime < worldTicks[last]) size = 0;
+            else if (nanos <= receivedNanos[last]) return;
+        }
+        receivedNanos[head] = nanos;
+        worldTicks[head] = worldTime;
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) size++;
+    }
+
+    public synchronized void reset() {
+        size = 0;
+    }
+
+    /**
+     * Average tick rate over the last {@code windowNanos} before {@code nowNanos}, capped at
+     * {@link #TARGET_TPS}, or -1 if fewer than two packets fall in the window.
+     */
+    public synchronized double estimate(long nowNanos, long windowNanos) {
+        if (size < 2) return -1;
+        int last = (head - 1 + CAPACITY) % CAPACITY;
+        int oldest = last;
+        for (int age = 1; age < size; age++) {
+            int index = (last - age + CAPACITY) % CAPACITY;
+            if (nowNanos - receivedNanos[index] > windowNanos) break;
+            oldest = index;
+        }
+        if (oldest == last) {
+            // The window only holds the last packet; fall back to the last interval.
+            oldest = (last - 1 + CAPACITY) % CAPACITY;
+        }
+
+        long elapsed = receivedNanos[last] - receivedNanos[oldest];
+        if (nowNanos - receivedNanos[last] > STALL_NANOS) elapsed = nowNanos - receivedNanos[oldest];
+        if (elapsed <= 0) return -1;
+        double tps = (worldTicks[last] - worldTicks[oldest]) * 1_000_000_000.0 / elapsed;
+        return Math.min(TARGET_TPS, tps);
+    }
+
+    /**
+     * Estimated milliseconds per tick for a tick rate. A server at full speed sleeps between
+     * ticks, so below 50 ms the real figure can't be seen from the client and 50 is reported.
+     */
+    public static double estimateMspt(double tps) {
+        return tps <= 0 ? -1 : 1000.0 / tps;
+    }
+
+    public TpsSnapshot snapshot(long nowNanos) {
+        return new TpsSnapshot(estimate(nowNanos, CURRENT_WINDOW_NANOS), estimate(nowNanos, MINUTE_NANOS),
+                estimate(nowNanos, FIVE_MINUTES_NANOS));
+    }
+
+    public synchronized int getSampleCount() {
+        return size;
+    }
+}
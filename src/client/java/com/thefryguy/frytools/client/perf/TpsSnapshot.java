@@ -0,0 +1,33 @@
+package com.thefryguy.frytools.client.perf;
+
+/**
+ * Immutable tick-rate estimate; a value of -1 means not enough packets have arrived yet.
+ */
+public final class TpsSnapshot {
+    private final double currentTps;
+    private final double minuteTps;
+    private final double fiveMinuteTps;
+
+    TpsSnapshot(double currentTps, double minuteTps, double fiveMinuteTps) {
+        this.currentTps = currentTps;
+        this.minuteTps = minuteTps;
+        this.fiveMinuteTps = fiveMinuteTps;
+    }
+
+    public double getCurrentTps() { return currentTps; }
+    public double getMinuteTps() { return minuteTps; }
+    public double getFiveMinuteTps() { return fiveMinuteTps; }
+    public double getMspt() { return TpsEstimator.estimateMspt(currentTps); }
+
+    /**
+     * e.g. {@code 19.8 (1m 19.9, 5m 20.0) - 50.5 MSPT}.
+     */
+    public String describe() {
+        if (currentTps < 0) return "Waiting for server time updates...";
+        return String.format("%.1f (1m %s, 5m %s) - %.1f MSPT", currentTps, format(minuteTps), format(fiveMinuteTps), getMspt());
+    }
+
+    private static String format(double tps) {
+        return tps < 0 ? "-" : String.format("%.1f", tps);
+    }
+}
@@ -0,0 +1,32 @@
+package com.thefryguy.frytools.client.scan;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Counts every loaded block entity around the player by type and by chunk. Block entities are
+ * already held per chunk, so a full render distance is one pass over the loaded chunks' maps
+ * with no block access, well within a tick. Client thread only.
+ */
+public final class BlockEntityCensus {
+    private final ChunkTypeCounter counter = new ChunkTypeCounter();
+
+    public ChunkDensity count(ClientWorld world, int centerChunkX, int centerChunkZ, int radius, int topN) {
+        long start = System.nanoTime();
+        counter.clear();
+        for (int chunkZ = centerChunkZ - radius; chunkZ <= centerChunkZ + radius; chunkZ++) {
+            for (int chunkX = centerChunkX - radius; chunkX <= centerChunkX + radius; chunkX++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+                if (chunk == null) continue;
+                long chunkKey = ChunkPos.toLong(chunkX, chunkZ);
+                for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+                    counter.add(chunkKey, Registries.BLOCK_ENTITY_TYPE.getRawId(blockEntity.getType()));
+                }
+            }
+        }
+        return counter.toDensity(centerChunkX, centerChunkZ, topN, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,30 @@
+package com.thefryguy.frytools.client.scan;
+
+import com.thefryguy.frytools.client.DisplayNames;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+import java.util.Arrays;
+
+/**
+ * Display names of block entity types, computed once per type and looked up by raw registry id.
+ */
+public final class BlockEntityTypeNames {
+    private static String[] names = new String[0];
+
+    private BlockEntityTypeNames() {
+    }
+
+    public static String get(int rawId) {
+        if (rawId >= names.length) names = Arrays.copyOf(names, Math.max(rawId + 1, Registries.BLOCK_ENTITY_TYPE.size()));
+        String name = names[rawId];
+        if (name == null) {
+            BlockEntityType<?> type = Registries.BLOCK_ENTITY_TYPE.get(rawId);
+            Identifier id = type != null ? Registries.BLOCK_ENTITY_TYPE.getId(type) : null;
+            name = id != null ? DisplayNames.fromPath(id.getPath()) : "Unknown";
+            names[rawId] = name;
+        }
+        return name;
+    }
+}
@@ -0,0 +1,142 @@
+package com.thefryguy.frytools.client.scan;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Time-sliced search for arbitrary blocks. On the client thread every section of a chunk is
+ * first checked against its palette; only sections whose palette contains a matching state are
+ * copied and then walked block by block on a worker.
+ */
+public class BlockFinderScan extends TimeSlicedScan<BlockFinderScan.ChunkCopy, List<BlockFinderScan.BlockMatch>> {
+    private final BlockMatcher matcher;
+    private final BlockPos origin;
+    private final int maxResults;
+    private final Consumer<List<BlockMatch>> resultConsumer;
+    private int sectionsChecked;
+    private int sectionsScanned;
+    private int resultCount;
+
+    public BlockFinderScan(ClientWorld world, long[] chunkKeys, BlockMatcher matcher, BlockPos origin,
+                           int maxResults, Consumer<List<BlockMatch>> resultConsumer) {
+        super(world, chunkKeys);
+        this.matcher = matcher;
+        this.origin = origin.toImmutable();
+        this.maxResults = maxResults;
+        this.resultConsumer = resultConsumer;
+    }
+
+    public int getSectionsChecked() { return sectionsChecked; }
+    public int getSectionsScanned() { return sectionsScanned; }
+    public int getResultCount() { return resultCount; }
+    public boolean isResultLimitReached() { return resultCount >= maxResults; }
+
+    @Override
+    protected ChunkCopy collect(ClientWorld world, long chunkKey) {
+        int chunkX = ChunkPos.getPackedX(chunkKey);
+        int chunkZ = ChunkPos.getPackedZ(chunkKey);
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+        if (chunk == null) return null;
+
+        ChunkCopy copy = null;
+        ChunkSection[] sections = chunk.getSectionArray();
+        for (int index = 0; index < sections.length; index++) {
+            ChunkSection section = sections[index];
+            sectionsChecked++;
+            // Air-only sections and sections whose palette has no matching state cannot contain a match.
+            if (section.isEmpty() || !section.hasAny(matcher)) continue;
+
+            if (copy == null) copy = new ChunkCopy(chunkX, chunkZ);
+            copy.sectionYs.add(chunk.sectionIndexToCoord(index));
+            copy.containers.add(section.getBlockStateContainer().copy());
+            sectionsScanned++;
+        }
+        return copy;
+    }
+
+    @Override
+    protected List<BlockMatch> process(List<ChunkCopy> batch) {
+        List<BlockMatch> matches = new ArrayList<>();
+        for (ChunkCopy copy : batch) {
+            int baseX = ChunkSectionPos.getBlockCoord(copy.chunkX);
+            int baseZ = ChunkSectionPos.getBlockCoord(copy.chunkZ);
+            for (int i = 0; i < copy.containers.size(); i++) {
+                PalettedContainer<BlockState> container = copy.containers.get(i);
+                int baseY = ChunkSectionPos.getBlockCoord(copy.sectionYs.get(i));
+                for (int y = 0; y < 16; y++) {
+                    for (int z = 0; z < 16; z++) {
+                        for (int x = 0; x < 16; x++) {
+                            BlockState state = container.get(x, y, z);
+                            if (!matcher.test(state)) continue;
+                            int worldX = baseX + x;
+                            int worldY = baseY + y;
+                            int worldZ = baseZ + z;
+                            double dx = worldX - origin.getX();
+                            double dy = worldY - origin.getY();
+                            double dz = worldZ - origin.getZ();
+                            matches.add(new BlockMatch(BlockPos.asLong(worldX, worldY, worldZ), state.getBlock(),
+                                    Math.sqrt(dx * dx + dy * dy + dz * dz)));
+                        }
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected void onBatch(List<BlockMatch> matches) {
+        if (matches.isEmpty() || isResultLimitReached()) return;
+        List<BlockMatch> accepted = matches.size() > maxResults - resultCount
+                ? matches.subList(0, maxResults - resultCount)
+                : matches;
+        resultCount += accepted.size();
+        resultConsumer.accept(accepted);
+        if (isResultLimitReached()) cancel();
+    }
+
+    /**
+     * Palette-matching sections copied out of one chunk.
+     */
+    public static final class ChunkCopy {
+        private final int chunkX;
+        private final int chunkZ;
+        private final List<Integer> sectionYs = new ArrayList<>();
+        private final List<PalettedContainer<BlockState>> containers = new ArrayList<>();
+
+        private ChunkCopy(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+
+    /**
+     * One matching block, with its distance to the player at the start of the scan.
+     */
+    public static final class BlockMatch {
+        private final long packedPos;
+        private final Block block;
+        private final double distance;
+
+        public BlockMatch(long packedPos, Block block, double distance) {
+            this.packedPos = packedPos;
+            this.block = block;
+            this.distance = distance;
+        }
+
+        public long getPackedPos() { return packedPos; }
+        public Block getBlock() { return block; }
+        public double getDistance() { return distance; }
+    }
+}
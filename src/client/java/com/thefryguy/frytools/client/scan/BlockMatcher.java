@@ -0,0 +1,75 @@
+package com.thefryguy.frytools.client.scan;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Matches block states against a set of blocks and block tags, parsed from a query such as
+ * {@code "spawner, minecraft:hopper, #portals"}. Immutable and safe to use from scan workers.
+ */
+public final class BlockMatcher implements Predicate<BlockState> {
+    private final Set<Block> blocks;
+    private final List<TagKey<Block>> tags;
+    private final String description;
+
+    private BlockMatcher(Set<Block> blocks, List<TagKey<Block>> tags, String description) {
+        this.blocks = blocks;
+        this.tags = tags;
+        this.description = description;
+    }
+
+    /**
+     * Parses a comma or space separated list of block ids and {@code #tag} ids.
+     *
+     * @throws IllegalArgumentException if an id is malformed or names an unknown block
+     */
+    public static BlockMatcher parse(String query) {
+        Set<Block> blocks = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<TagKey<Block>> tags = new ArrayList<>();
+        List<String> parts = new ArrayList<>();
+
+        for (String token : query.split("[,\\s]+")) {
+            if (token.isEmpty()) continue;
+            boolean isTag = token.startsWith("#");
+            Identifier id = Identifier.tryParse(isTag ? token.substring(1) : token);
+            if (id == null) throw new IllegalArgumentException("Invalid id: " + token);
+
+            if (isTag) {
+                tags.add(TagKey.of(RegistryKeys.BLOCK, id));
+                parts.add("#" + id);
+            } else {
+                if (!Registries.BLOCK.containsId(id)) throw new IllegalArgumentException("Unknown block: " + id);
+                blocks.add(Registries.BLOCK.get(id));
+                parts.add(id.toString());
+            }
+        }
+
+        if (blocks.isEmpty() && tags.isEmpty()) throw new IllegalArgumentException("Enter at least one block or #tag");
+        return new BlockMatcher(blocks, List.copyOf(tags), String.join(", ", parts));
+    }
+
+    @Override
+    public boolean test(BlockState state) {
+        if (blocks.contains(state.getBlock())) return true;
+        for (TagKey<Block> tag : tags) {
+            if (state.isIn(tag)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,330 @@
+package com.thefryguy.frytools.client.scan;
+
+import java.util.Arrays;
+
+/**
+ * Immutable chunk-bucketed grid over a set of block positions, answering box, radius and
+ * k-nearest queries. Positions are identified by their index in the arrays passed to
+ * {@link #build}; queries return those ids.
+ * <p>
+ * Points are stored grouped by chunk in flat primitive arrays, and each chunk key maps to its
+ * slice through an open-addressing table, so a query only touches the chunks it overlaps.
+ */
+public final class BlockSpatialIndex {
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    // Distance-ordered candidates are packed as (distance squared << INDEX_BITS | point index).
+    private static final int INDEX_BITS = 23;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    // Squared distances are clamped so the packed key stays positive (about 1M blocks).
+    private static final long MAX_DISTANCE_SQ = (1L << (63 - INDEX_BITS)) - 1;
+
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] zs;
+    private final int[] ids;
+    private final long[] bucketKeys;
+    private final int[] bucketStarts;
+    private final int[] bucketEnds;
+    private final int bucketMask;
+    private final int bucketCount;
+    private final int minChunkX, maxChunkX, minChunkZ, maxChunkZ;
+
+    private BlockSpatialIndex(int[] xs, int[] ys, int[] zs, int[] ids, long[] bucketKeys, int[] bucketStarts,
+                              int[] bucketEnds, int bucketCount, int minChunkX, int maxChunkX, int minChunkZ, int maxChunkZ) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.ids = ids;
+        this.bucketKeys = bucketKeys;
+        this.bucketStarts = bucketStarts;
+        this.bucketEnds = bucketEnds;
+        this.bucketMask = bucketKeys.length - 1;
+        this.bucketCount = bucketCount;
+        this.minChunkX = minChunkX;
+        this.maxChunkX = maxChunkX;
+        this.minChunkZ = minChunkZ;
+        this.maxChunkZ = maxChunkZ;
+    }
+
+    public static BlockSpatialIndex build(int[] x, int[] y, int[] z) {
+        int n = x.length;
+        if (n > INDEX_MASK) throw new IllegalArgumentException("Too many points: " + n);
+        int capacity = Integer.highestOneBit(Math.max(2, n * 2 - 1)) << 1;
+        int mask = capacity - 1;
+        long[] bucketKeys = new long[capacity];
+        Arrays.fill(bucketKeys, EMPTY_KEY);
+        int[] bucketStarts = new int[capacity];
+        int[] bucketEnds = new int[capacity];
+        int[] pointSlots = new int[n];
+        int minChunkX = Integer.MAX_VALUE, maxChunkX = Integer.MIN_VALUE;
+        int minChunkZ = Integer.MAX_VALUE, maxChunkZ = Integer.MIN_VALUE;
+        int distinct = 0;
+
+        // Pass 1: assign every point to its chunk bucket and count the bucket sizes.
+        for (int i = 0; i < n; i++) {
+            int chunkX = x[i] >> 4;
+            int chunkZ = z[i] >> 4;
+            minChunkX = Math.min(minChunkX, chunkX);
+            maxChunkX = Math.max(maxChunkX, chunkX);
+            minChunkZ = Math.min(minChunkZ, chunkZ);
+            maxChunkZ = Math.max(maxChunkZ, chunkZ);
+
+            long key = chunkKey(chunkX, chunkZ);
+            int slot = slot(key, mask);
+            while (bucketKeys[slot] != EMPTY_KEY && bucketKeys[slot] != key) slot = (slot + 1) & mask;
+            if (bucketKeys[slot] == EMPTY_KEY) {
+                bucketKeys[slot] = key;
+                distinct++;
+            }
+            bucketEnds[slot]++;
+            pointSlots[i] = slot;
+        }
+
+        // Pass 2: turn the counts into contiguous [start, end) slices.
+        int offset = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (bucketKeys[slot] == EMPTY_KEY) continue;
+            bucketStarts[slot] = offset;
+            offset += bucketEnds[slot];
+            bucketEnds[slot] = bucketStarts[slot];
+        }
+
+        // Pass 3: scatter the points into their slices.
+        int[] xs = new int[n], ys = new int[n], zs = new int[n], ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            int target = bucketEnds[pointSlots[i]]++;
+            xs[target] = x[i];
+            ys[target] = y[i];
+            zs[target] = z[i];
+            ids[target] = i;
+        }
+
+        return new BlockSpatialIndex(xs, ys, zs, ids, bucketKeys, bucketStarts, bucketEnds, distinct,
+                minChunkX, maxChunkX, minChunkZ, maxChunkZ);
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Ids of all points inside the inclusive box, in no particular order.
+     */
+    public int[] box(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int[] points = pointsInBox(minX, minY, minZ, maxX, maxY, maxZ);
+        for (int i = 0; i < points.length; i++) points[i] = ids[points[i]];
+        return points;
+    }
+
+    private int[] pointsInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        IntBuffer out = new IntBuffer();
+        int fromChunkX = Math.max(minX >> 4, minChunkX), toChunkX = Math.min(maxX >> 4, maxChunkX);
+        int fromChunkZ = Math.max(minZ >> 4, minChunkZ), toChunkZ = Math.min(maxZ >> 4, maxChunkZ);
+        if (fromChunkX > toChunkX || fromChunkZ > toChunkZ) return out.toArray();
+
+        long chunkArea = (long) (toChunkX - fromChunkX + 1) * (toChunkZ - fromChunkZ + 1);
+        if (chunkArea > bucketCount) {
+            // Huge boxes: walking the occupied buckets is cheaper than probing every chunk.
+            for (int slot = 0; slot < bucketKeys.length; slot++) {
+                if (bucketKeys[slot] != EMPTY_KEY) collectBox(slot, minX, minY, minZ, maxX, maxY, maxZ, out);
+            }
+        } else {
+            for (int chunkX = fromChunkX; chunkX <= toChunkX; chunkX++) {
+                for (int chunkZ = fromChunkZ; chunkZ <= toChunkZ; chunkZ++) {
+                    int slot = find(chunkKey(chunkX, chunkZ));
+                    if (slot >= 0) collectBox(slot, minX, minY, minZ, maxX, maxY, maxZ, out);
+                }
+            }
+        }
+        return out.toArray();
+    }
+
+    /**
+     * Ids of all points within {@code radius} blocks (Euclidean) of the center, nearest first.
+     */
+    public int[] radius(int centerX, int centerY, int centerZ, int radius) {
+        int[] candidates = pointsInBox(centerX - radius, centerY - radius, centerZ - radius,
+                centerX + radius, centerY + radius, centerZ + radius);
+        long radiusSq = (long) radius * radius;
+        long[] keyed = new long[candidates.length];
+        int n = 0;
+        for (int point : candidates) {
+            long distSq = distanceSq(point, centerX, centerY, centerZ);
+            if (distSq <= radiusSq) keyed[n++] = (distSq << INDEX_BITS) | point;
+        }
+        return idsByDistance(keyed, n);
+    }
+
+    /**
+     * Ids of the {@code k} points nearest to the center, nearest first. Searches outward in
+     * square rings of chunks and stops once no unvisited chunk can hold a closer point. When the
+     * remaining rings cover more chunks than there are occupied buckets, the occupied buckets are
+     * walked directly instead, so sparse points far from the center do not cost a probe per chunk.
+     */
+    public int[] nearest(int centerX, int centerY, int centerZ, int k) {
+        if (k <= 0 || xs.length == 0) return new int[0];
+        NearestHeap best = new NearestHeap(Math.min(k, xs.length));
+        int centerChunkX = centerX >> 4;
+        int centerChunkZ = centerZ >> 4;
+        int maxRing = Math.max(Math.max(Math.abs(centerChunkX - minChunkX), Math.abs(maxChunkX - centerChunkX)),
+                Math.max(Math.abs(centerChunkZ - minChunkZ), Math.abs(maxChunkZ - centerChunkZ)));
+        // Distance from the center to the nearest edge of its own chunk.
+        int edge = Math.min(Math.min(centerX & 15, 15 - (centerX & 15)), Math.min(centerZ & 15, 15 - (centerZ & 15)));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (best.isFull() && ring > 0) {
+                long minRingDistance = 16L * (ring - 1) + 1 + edge;
+                if (minRingDistance * minRingDistance > best.worstDistanceSq()) break;
+            }
+            long remainingArea = (2L * maxRing + 1) * (2L * maxRing + 1) - (2L * ring - 1) * (2L * ring - 1);
+            if (ring > 0 && remainingArea > bucketCount) {
+                // Sparse points: walking the occupied buckets is cheaper than probing the remaining rings.
+                for (int slot = 0; slot < bucketKeys.length; slot++) {
+                    if (bucketKeys[slot] == EMPTY_KEY) continue;
+                    int chunkX = (int) bucketKeys[slot];
+                    int chunkZ = (int) (bucketKeys[slot] >>> 32);
+                    if (Math.max(Math.abs(chunkX - centerChunkX), Math.abs(chunkZ - centerChunkZ)) < ring) continue;
+                    if (best.isFull() && chunkDistanceSq(chunkX, chunkZ, centerX, centerZ) > best.worstDistanceSq()) continue;
+                    offerBucket(slot, centerX, centerY, centerZ, best);
+                }
+                break;
+            }
+            for (int dx = -ring; dx <= ring; dx++) {
+                boolean edgeX = dx == -ring || dx == ring;
+                for (int dz = -ring; dz <= ring; dz += edgeX ? 1 : 2 * ring) {
+                    int slot = find(chunkKey(centerChunkX + dx, centerChunkZ + dz));
+                    if (slot >= 0) offerBucket(slot, centerX, centerY, centerZ, best);
+                    if (ring == 0) break;
+                }
+            }
+        }
+        return idsByDistance(best.keys, best.size);
+    }
+
+    private void offerBucket(int slot, int centerX, int centerY, int centerZ, NearestHeap best) {
+        for (int i = bucketStarts[slot]; i < bucketEnds[slot]; i++) {
+            best.offer((distanceSq(i, centerX, centerY, centerZ) << INDEX_BITS) | i);
+        }
+    }
+
+    /**
+     * Squared horizontal distance from the position to the nearest block of the chunk.
+     */
+    private static long chunkDistanceSq(int chunkX, int chunkZ, int x, int z) {
+        long dx = Math.max(0, Math.max(((long) chunkX << 4) - x, x - (((long) chunkX << 4) + 15)));
+        long dz = Math.max(0, Math.max(((long) chunkZ << 4) - z, z - (((long) chunkZ << 4) + 15)));
+        return dx * dx + dz * dz;
+    }
+
+    private long distanceSq(int point, int x, int y, int z) {
+        long dx = (long) xs[point] - x;
+        long dy = (long) ys[point] - y;
+        long dz = (long) zs[point] - z;
+        return Math.min(dx * dx + dy * dy + dz * dz, MAX_DISTANCE_SQ);
+    }
+
+    private int[] idsByDistance(long[] keyed, int n) {
+        Arrays.sort(keyed, 0, n);
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) result[i] = ids[(int) (keyed[i] & INDEX_MASK)];
+        return result;
+    }
+
+    private void collectBox(int slot, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, IntBuffer out) {
+        for (int i = bucketStarts[slot]; i < bucketEnds[slot]; i++) {
+            if (xs[i] >= minX && xs[i] <= maxX && ys[i] >= minY && ys[i] <= maxY && zs[i] >= minZ && zs[i] <= maxZ) {
+                out.add(i);
+            }
+        }
+    }
+
+    private int find(long key) {
+        int slot = slot(key, bucketMask);
+        while (bucketKeys[slot] != EMPTY_KEY) {
+            if (bucketKeys[slot] == key) return slot;
+            slot = (slot + 1) & bucketMask;
+        }
+        return -1;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return (chunkX & 0xFFFFFFFFL) | ((chunkZ & 0xFFFFFFFFL) << 32);
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Minimal growable int array for query results.
+     */
+    private static final class IntBuffer {
+        private int[] data = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+
+    /**
+     * Max-heap of the best {@code capacity} packed candidates seen so far.
+     */
+    private static final class NearestHeap {
+        private final long[] keys;
+        private int size;
+
+        NearestHeap(int capacity) {
+            keys = new long[capacity];
+        }
+
+        boolean isFull() {
+            return size == keys.length;
+        }
+
+        long worstDistanceSq() {
+            return keys[0] >>> INDEX_BITS;
+        }
+
+        void offer(long key) {
+            if (size < keys.length) {
+                keys[size] = key;
+                siftUp(keys, size++);
+            } else if (key < keys[0]) {
+                keys[0] = key;
+                siftDown(keys, size);
+            }
+        }
+
+        private static void siftUp(long[] heap, int i) {
+            while (i > 0) {
+                int parent = (i - 1) >> 1;
+                if (heap[parent] >= heap[i]) return;
+                long t = heap[parent];
+                heap[parent] = heap[i];
+                heap[i] = t;
+                i = parent;
+            }
+        }
+
+        private static void siftDown(long[] heap, int size) {
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) return;
+                int largest = left + 1 < size && heap[left + 1] > heap[left] ? left + 1 : left;
+                if (heap[i] >= heap[largest]) return;
+                long t = heap[i];
+                heap[i] = heap[largest];
+                heap[largest] = t;
+                i = largest;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.thefryguy.frytools.client.scan;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Immutable per-chunk counts of entities or block entities in one world, plus the busiest
+ * chunks with their per-type breakdown and the totals per type, both sorted by count. Chunks
+ * are identified by {@link ChunkPos#toLong} keys, types by raw registry id.
+ */
+public final class ChunkDensity {
+    public static final ChunkDensity EMPTY = new ChunkDensity(new long[0], new int[0], new long[0],
+            new int[0], new int[0][], new int[0][], new int[0], new int[0], 0, 0, 0, 0);
+
+    private final long[] chunkKeys;
+    private final int[] totals;
+    private final Long2IntOpenHashMap totalsByChunk;
+    private final long[] hotChunkKeys;
+    private final int[] hotTotals;
+    private final int[][] hotTypeIds;
+    private final int[][] hotTypeCounts;
+    private final int[] typeIds;
+    private final int[] typeTotals;
+    private final int centerChunkX;
+    private final int centerChunkZ;
+    private final int totalEntities;
+    private final long collectNanos;
+
+    ChunkDensity(long[] chunkKeys, int[] totals, long[] hotChunkKeys, int[] hotTotals,
+                 int[][] hotTypeIds, int[][] hotTypeCounts, int[] typeIds, int[] typeTotals, int centerChunkX, int centerChunkZ,
+                 int totalEntities, long collectNanos) {
+        this.chunkKeys = chunkKeys;
+        this.totals = totals;
+        this.hotChunkKeys = hotChunkKeys;
+        this.hotTotals = hotTotals;
+        this.hotTypeIds = hotTypeIds;
+        this.hotTypeCounts = hotTypeCounts;
+        this.typeIds = typeIds;
+        this.typeTotals = typeTotals;
+        this.centerChunkX = centerChunkX;
+        this.centerChunkZ = centerChunkZ;
+        this.totalEntities = totalEntities;
+        this.collectNanos = collectNanos;
+        this.totalsByChunk = new Long2IntOpenHashMap(chunkKeys.length);
+        for (int i = 0; i < chunkKeys.length; i++) totalsByChunk.put(chunkKeys[i], totals[i]);
+    }
+
+    public int getChunkCount() { return chunkKeys.length; }
+    public long getChunkKey(int index) { return chunkKeys[index]; }
+    public int getTotal(int index) { return totals[index]; }
+
+    /**
+     * Number of entities in the given chunk, 0 if it has none.
+     */
+    public int getTotalAt(int chunkX, int chunkZ) {
+        return totalsByChunk.get(ChunkPos.toLong(chunkX, chunkZ));
+    }
+
+    public int getHotChunkCount() { return hotChunkKeys.length; }
+    public long getHotChunkKey(int rank) { return hotChunkKeys[rank]; }
+    public int getHotTotal(int rank) { return hotTotals[rank]; }
+
+    /**
+     * Raw entity type ids present in a hot chunk, busiest type first.
+     */
+    public int[] getHotTypeIds(int rank) { return hotTypeIds[rank].clone(); }
+    public int[] getHotTypeCounts(int rank) { return hotTypeCounts[rank].clone(); }
+
+    /**
+     * Types present anywhere, busiest first.
+     */
+    public int getTypeCount() { return typeIds.length; }
+    public int getTypeId(int rank) { return typeIds[rank]; }
+    public int getTypeTotal(int rank) { return typeTotals[rank]; }
+
+    public int getCenterChunkX() { return centerChunkX; }
+    public int getCenterChunkZ() { return centerChunkZ; }
+    public int getTotalEntities() { return totalEntities; }
+    public long getCollectNanos() { return collectNanos; }
+}
@@ -0,0 +1,143 @@
+package com.thefryguy.frytools.client.scan;
+
+import it.unimi.dsi.fastutil.ints.IntHeapPriorityQueue;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+
+import java.util.Arrays;
+
+/**
+ * Counts typed objects (entities, block entities) per chunk and per type per chunk into
+ * reusable primitive buffers, then turns the counts into a {@link ChunkDensity}. Types are
+ * raw registry ids. Buffers are kept between uses, so steady-state counting allocates nothing.
+ * <p>
+ * Not thread-safe; each owner uses its own instance from one thread.
+ */
+public final class ChunkTypeCounter {
+    // Chunk key -> dense slot, and (slot << 32 | type id) -> count.
+    private final Long2IntOpenHashMap chunkSlots = new Long2IntOpenHashMap();
+    private final Long2IntOpenHashMap typeCountsBySlot = new Long2IntOpenHashMap();
+    private long[] slotChunks = new long[256];
+    private int[] slotTotals = new int[256];
+    private int[] typeTotals = new int[64];
+    private int slots;
+    private int total;
+
+    public ChunkTypeCounter() {
+        chunkSlots.defaultReturnValue(-1);
+    }
+
+    public void clear() {
+        chunkSlots.clear();
+        typeCountsBySlot.clear();
+        Arrays.fill(typeTotals, 0);
+        slots = 0;
+        total = 0;
+    }
+
+    public void add(long chunkKey, int typeId) {
+        int slot = chunkSlots.get(chunkKey);
+        if (slot < 0) {
+            slot = slots++;
+            if (slot == slotChunks.length) {
+                slotChunks = Arrays.copyOf(slotChunks, slot * 2);
+                slotTotals = Arrays.copyOf(slotTotals, slot * 2);
+            }
+            chunkSlots.put(chunkKey, slot);
+            slotChunks[slot] = chunkKey;
+            slotTotals[slot] = 0;
+        }
+        if (typeId >= typeTotals.length) typeTotals = Arrays.copyOf(typeTotals, Math.max(typeId + 1, typeTotals.length * 2));
+        slotTotals[slot]++;
+        typeTotals[typeId]++;
+        typeCountsBySlot.addTo(((long) slot << 32) | typeId, 1);
+        total++;
+    }
+
+    /**
+     * The counts so far, with the {@code topN} busiest chunks and their per-type breakdown.
+     */
+    public ChunkDensity toDensity(int centerChunkX, int centerChunkZ, int topN, long collectNanos) {
+        // Keep the busiest chunks in a min-heap of slots, so selecting them needs no full sort.
+        int[] totals = slotTotals;
+        IntHeapPriorityQueue heap = new IntHeapPriorityQueue(topN + 1, (a, b) -> Integer.compare(totals[a], totals[b]));
+        for (int slot = 0; slot < slots; slot++) {
+            if (heap.size() < topN) {
+                heap.enqueue(slot);
+            } else if (topN > 0 && totals[slot] > totals[heap.firstInt()]) {
+                heap.dequeueInt();
+                heap.enqueue(slot);
+            }
+        }
+        int hotCount = heap.size();
+        long[] hotKeys = new long[hotCount];
+        int[] hotTotals = new int[hotCount];
+        int[] hotRankBySlot = new int[slots];
+        Arrays.fill(hotRankBySlot, -1);
+        for (int rank = hotCount - 1; rank >= 0; rank--) {
+            int slot = heap.dequeueInt();
+            hotKeys[rank] = slotChunks[slot];
+            hotTotals[rank] = totals[slot];
+            hotRankBySlot[slot] = rank;
+        }
+
+        int[][] hotTypeIds = new int[hotCount][];
+        int[][] hotTypeCounts = new int[hotCount][];
+        int[] typesPerHot = new int[hotCount];
+        for (int pass = 0; pass < 2; pass++) {
+            ObjectIterator<Long2IntMap.Entry> it = typeCountsBySlot.long2IntEntrySet().fastIterator();
+            while (it.hasNext()) {
+                Long2IntMap.Entry entry = it.next();
+                int rank = hotRankBySlot[(int) (entry.getLongKey() >>> 32)];
+                if (rank < 0) continue;
+                if (pass == 0) {
+                    typesPerHot[rank]++;
+                } else {
+                    int i = --typesPerHot[rank];
+                    hotTypeIds[rank][i] = (int) entry.getLongKey();
+                    hotTypeCounts[rank][i] = entry.getIntValue();
+                }
+            }
+            if (pass == 0) {
+                for (int rank = 0; rank < hotCount; rank++) {
+                    hotTypeIds[rank] = new int[typesPerHot[rank]];
+                    hotTypeCounts[rank] = new int[typesPerHot[rank]];
+                }
+            }
+        }
+        // Busiest type first; a hot chunk only holds a handful of types.
+        for (int rank = 0; rank < hotCount; rank++) sortByCountDescending(hotTypeIds[rank], hotTypeCounts[rank]);
+
+        int types = 0;
+        for (int count : typeTotals) {
+            if (count > 0) types++;
+        }
+        int[] typeIds = new int[types];
+        int[] typeCounts = new int[types];
+        for (int typeId = 0, i = 0; typeId < typeTotals.length; typeId++) {
+            if (typeTotals[typeId] == 0) continue;
+            typeIds[i] = typeId;
+            typeCounts[i++] = typeTotals[typeId];
+        }
+        sortByCountDescending(typeIds, typeCounts);
+
+        return new ChunkDensity(Arrays.copyOf(slotChunks, slots), Arrays.copyOf(slotTotals, slots), hotKeys,
+                hotTotals, hotTypeIds, hotTypeCounts, typeIds, typeCounts, centerChunkX, centerChunkZ, total, collectNanos);
+    }
+
+    private static void sortByCountDescending(int[] ids, int[] counts) {
+        for (int i = 1; i < counts.length; i++) {
+            int id = ids[i];
+            int count = counts[i];
+            int j = i - 1;
+            while (j >= 0 && counts[j] < count) {
+                ids[j + 1] = ids[j];
+                counts[j + 1] = counts[j];
+                j--;
+            }
+            ids[j + 1] = id;
+            counts[j + 1] = count;
+        }
+    }
+}
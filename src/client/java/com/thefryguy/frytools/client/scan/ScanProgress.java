@@ -0,0 +1,42 @@
+package com.thefryguy.frytools.client.scan;
+
+/**
+ * Immutable progress report of a {@link TimeSlicedScan}.
+ */
+public final class ScanProgress {
+    private final int completedUnits;
+    private final int totalUnits;
+    private final long elapsedNanos;
+    private final long clientThreadNanos;
+    private final long workerNanos;
+    private final boolean done;
+    private final boolean cancelled;
+
+    public ScanProgress(int completedUnits, int totalUnits, long elapsedNanos, long clientThreadNanos,
+                        long workerNanos, boolean done, boolean cancelled) {
+        this.completedUnits = completedUnits;
+        this.totalUnits = totalUnits;
+        this.elapsedNanos = elapsedNanos;
+        this.clientThreadNanos = clientThreadNanos;
+        this.workerNanos = workerNanos;
+        this.done = done;
+        this.cancelled = cancelled;
+    }
+
+    public int getCompletedUnits() { return completedUnits; }
+    public int getTotalUnits() { return totalUnits; }
+    public double getFraction() { return totalUnits == 0 ? 1.0 : (double) completedUnits / totalUnits; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public long getClientThreadNanos() { return clientThreadNanos; }
+    public long getWorkerNanos() { return workerNanos; }
+    public boolean isDone() { return done; }
+    public boolean isCancelled() { return cancelled; }
+
+    /**
+     * Short human readable timing summary, e.g. for a status label.
+     */
+    public String describeTiming() {
+        return String.format("%.1f ms total, %.2f ms on client thread, %.2f ms in workers",
+                elapsedNanos / 1_000_000.0, clientThreadNanos / 1_000_000.0, workerNanos / 1_000_000.0);
+    }
+}
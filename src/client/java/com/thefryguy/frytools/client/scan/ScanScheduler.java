@@ -0,0 +1,70 @@
+package com.thefryguy.frytools.client.scan;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives all running {@link TimeSlicedScan}s from the end of each client tick, sharing a fixed
+ * time budget between them, and owns the worker pool their batches run on.
+ */
+public final class ScanScheduler {
+    private static final ScanScheduler INSTANCE = new ScanScheduler();
+    // Client-thread time all scans together may use per tick.
+    private static final long TICK_BUDGET_NANOS = 2_000_000L;
+
+    private final List<TimeSlicedScan<?, ?>> scans = new ArrayList<>();
+    private final ExecutorService workers;
+
+    private ScanScheduler() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "FryTools Scan Worker " + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    public static ScanScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(this::tick);
+    }
+
+    /**
+     * Starts the scan on the next client tick. Safe to call from any thread.
+     */
+    public void submit(TimeSlicedScan<?, ?> scan) {
+        MinecraftClient.getInstance().execute(() -> scans.add(scan));
+    }
+
+    /**
+     * Runs a background task on the scan worker pool.
+     */
+    public void execute(Runnable task) {
+        workers.execute(task);
+    }
+
+    private void tick(MinecraftClient client) {
+        if (scans.isEmpty()) return;
+
+        long budget = TICK_BUDGET_NANOS / scans.size();
+        Iterator<TimeSlicedScan<?, ?>> it = scans.iterator();
+        while (it.hasNext()) {
+            TimeSlicedScan<?, ?> scan = it.next();
+            // A scan never outlives the world it was started in.
+            if (scan.getWorld() != client.world) scan.cancel();
+            if (scan.tick(budget, workers)) it.remove();
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.thefryguy.frytools.client.scan;
+
+import com.thefryguy.frytools.client.ServerIdentity;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only on-disk archive of every sign version seen, one store per server and dimension
+ * under {@code <game dir>/frytools/signs/}.
+ * <p>
+ * Each store is a log of records ({@code type, pos, time, text}) plus a positional index that
+ * maps each sign position to the offset and text digest of its latest version. Opening a store
+ * reads the index file and only replays log records appended after the index was last written,
+ * so the log itself is never parsed in full. Texts are read from the log on demand.
+ * <p>
+ * All file access happens on a single archive thread.
+ */
+public final class SignArchive implements SignIndex.ChangeListener {
+    private static final SignArchive INSTANCE = new SignArchive();
+    private static final byte RECORD_VERSION = 1;
+    private static final byte RECORD_REMOVED = 2;
+    // type + pos + time + text length
+    private static final int RECORD_HEADER_BYTES = 1 + 8 + 8 + 4;
+    private static final int INDEX_MAGIC = 0x46545349; // "FTSI"
+    // Format 1 stored String.hashCode, whose collisions could hide real text changes.
+    private static final int INDEX_FORMAT = 2;
+    // magic + format + covered log length + entry count
+    private static final int INDEX_HEADER_BYTES = 4 + 4 + 8 + 4;
+    // pos + offset + text digest
+    private static final int INDEX_ENTRY_BYTES = 8 + 8 + 8;
+    // The index is rewritten after this many appends, so a crash only replays the log tail.
+    private static final int INDEX_FLUSH_APPENDS = 256;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FryTools Sign Archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Store> stores = new HashMap<>();
+    private String serverName;
+
+    private SignArchive() {
+    }
+
+    public static SignArchive getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        SignIndex.getInstance().addChangeListener(this);
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> {
+            String name = ServerIdentity.currentServerName(client);
+            executor.execute(() -> {
+                closeStores();
+                serverName = name;
+            });
+        });
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> executor.execute(() -> {
+            closeStores();
+            serverName = null;
+        }));
+        // Give the archive thread a moment to write the indexes before the JVM goes away.
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> {
+            try {
+                executor.submit(this::closeStores).get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                System.err.println("Error closing sign archive: " + e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void onSignChanged(RegistryKey<World> dimension, SignRecord record) {
+        executor.execute(() -> {
+            Store store = store(dimension);
+            if (store != null) store.append(RECORD_VERSION, record.getPackedPos(), record.getLastSeenMillis(), record.getText());
+        });
+    }
+
+    @Override
+    public void onSignRemoved(RegistryKey<World> dimension, long packedPos) {
+        long now = System.currentTimeMillis();
+        executor.execute(() -> {
+            Store store = store(dimension);
+            if (store != null && store.latest.containsKey(packedPos)) store.append(RECORD_REMOVED, packedPos, now, "");
+        });
+    }
+
+    /**
+     * Latest archived version of every sign inside the block area, returned as stale records.
+     */
+    public CompletableFuture<List<SignRecord>> query(RegistryKey<World> dimension, int minX, int minZ, int maxX, int maxZ) {
+        return CompletableFuture.supplyAsync(() -> {
+            Store store = store(dimension);
+            return store != null ? store.query(minX, minZ, maxX, maxZ) : List.of();
+        }, executor);
+    }
+
+    /**
+     * Size and load time of the store for the given dimension, e.g. for a status label.
+     */
+    public CompletableFuture<String> describe(RegistryKey<World> dimension) {
+        return CompletableFuture.supplyAsync(() -> {
+            Store store = store(dimension);
+            if (store == null) return "Archive unavailable";
+            return String.format("Archive: %d signs, %d KB log, opened in %.1f ms (%d records replayed)",
+                    store.latest.size(), store.logLength / 1024, store.openNanos / 1_000_000.0, store.replayedRecords);
+        }, executor);
+    }
+
+    private Store store(RegistryKey<World> dimension) {
+        if (serverName == null) return null;
+        String key = dimension.getValue().toString();
+        Store store = stores.get(key);
+        if (store == null) {
+            Path dir = FabricLoader.getInstance().getGameDir().resolve("frytools").resolve("signs").resolve(sanitize(serverName));
+            try {
+                store = Store.open(dir, sanitize(key));
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.err.println("Error opening sign archive: " + e.getMessage());
+                return null;
+            }
+            stores.put(key, store);
+        }
+        return store;
+    }
+
+    private void closeStores() {
+        for (Store store : stores.values()) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.err.println("Error closing sign archive: " + e.getMessage());
+            }
+        }
+        stores.clear();
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    /**
+     * One log/index pair. Only used from the archive thread.
+     */
+    private static final class Store {
+        private final Path indexPath;
+        private final FileChannel log;
+        // Sign position -> offset of its latest log record, and the digest of that record's text.
+        private final Long2LongOpenHashMap latest = new Long2LongOpenHashMap();
+        private final Long2LongOpenHashMap textDigests = new Long2LongOpenHashMap();
+        private final MessageDigest sha256;
+        private int appendsSinceIndex;
+        private long logLength;
+        private long openNanos;
+        private int replayedRecords;
+
+        private Store(Path indexPath, FileChannel log) {
+            this.indexPath = indexPath;
+            this.log = log;
+            try {
+                sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                // Every Java runtime is required to provide SHA-256.
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static Store open(Path dir, String name) throws IOException {
+            long start = System.nanoTime();
+            Files.createDirectories(dir);
+            FileChannel log = FileChannel.open(dir.resolve(name + ".log"),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Store store = new Store(dir.resolve(name + ".idx"), log);
+            long covered = store.loadIndex();
+            store.replay(covered);
+            store.openNanos = System.nanoTime() - start;
+            return store;
+        }
+
+        private long loadIndex() throws IOException {
+            if (!Files.exists(indexPath)) return 0;
+            try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+                if (channel.size() < INDEX_HEADER_BYTES || channel.size() > Integer.MAX_VALUE) return 0;
+                // Read onto the heap rather than mapping: a live mapping keeps writeIndex() from
+                // replacing the file on Windows, and the entries are copied into the maps anyway.
+                ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, buffer.position()) < 0) return 0;
+                }
+                buffer.flip();
+                if (buffer.getInt() != INDEX_MAGIC || buffer.getInt() != INDEX_FORMAT) return 0;
+                long covered = buffer.getLong();
+                int count = buffer.getInt();
+                // A log shorter than the index claims means the files do not belong together.
+                if (covered > log.size() || buffer.remaining() < (long) count * INDEX_ENTRY_BYTES) return 0;
+
+                latest.ensureCapacity(count);
+                textDigests.ensureCapacity(count);
+                for (int i = 0; i < count; i++) {
+                    long pos = buffer.getLong();
+                    latest.put(pos, buffer.getLong());
+                    textDigests.put(pos, buffer.getLong());
+                }
+                return covered;
+            }
+        }
+
+        /**
+         * Applies log records written after the index; stops at a torn record left by a crash.
+         */
+        private void replay(long from) throws IOException {
+            long offset = from;
+            long size = log.size();
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+            while (offset + RECORD_HEADER_BYTES <= size) {
+                header.clear();
+                readFully(header, offset);
+                header.flip();
+                byte type = header.get();
+                long pos = header.getLong();
+                header.getLong();
+                int textLength = header.getInt();
+                if ((type != RECORD_VERSION && type != RECORD_REMOVED) || textLength < 0
+                        || offset + RECORD_HEADER_BYTES + textLength > size) break;
+
+                if (type == RECORD_REMOVED) {
+                    latest.remove(pos);
+                    textDigests.remove(pos);
+                } else {
+                    latest.put(pos, offset);
+                    textDigests.put(pos, digest(readTextBytes(offset, textLength)));
+                }
+                offset += RECORD_HEADER_BYTES + textLength;
+                replayedRecords++;
+            }
+            logLength = offset;
+            if (offset < size) log.truncate(offset);
+        }
+
+        void append(byte type, long pos, long time, String text) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            long digest = digest(bytes);
+            // Only record a new version when the text actually changed.
+            if (type == RECORD_VERSION && latest.containsKey(pos) && textDigests.get(pos) == digest) return;
+
+            ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + bytes.length);
+            record.put(type).putLong(pos).putLong(time).putInt(bytes.length).put(bytes).flip();
+            try {
+                long offset = logLength;
+                while (record.hasRemaining()) logLength += log.write(record, logLength);
+                if (type == RECORD_REMOVED) {
+                    latest.remove(pos);
+                    textDigests.remove(pos);
+                } else {
+                    latest.put(pos, offset);
+                    textDigests.put(pos, digest);
+                }
+                if (++appendsSinceIndex >= INDEX_FLUSH_APPENDS) writeIndex();
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.err.println("Error writing sign archive: " + e.getMessage());
+            }
+        }
+
+        List<SignRecord> query(int minX, int minZ, int maxX, int maxZ) {
+            List<SignRecord> results = new ArrayList<>();
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+            for (Long2LongMap.Entry entry : latest.long2LongEntrySet()) {
+                long pos = entry.getLongKey();
+                int x = BlockPos.unpackLongX(pos);
+                int z = BlockPos.unpackLongZ(pos);
+                if (x < minX || x > maxX || z < minZ || z > maxZ) continue;
+
+                try {
+                    long offset = entry.getLongValue();
+                    header.clear();
+                    readFully(header, offset);
+                    header.flip();
+                    header.position(1 + 8);
+                    long time = header.getLong();
+                    int textLength = header.getInt();
+                    results.add(new SignRecord(pos, readText(offset, textLength), true, time, true));
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    System.err.println("Error reading sign archive: " + e.getMessage());
+                    break;
+                }
+            }
+            return results;
+        }
+
+        private String readText(long recordOffset, int length) throws IOException {
+            return new String(readTextBytes(recordOffset, length), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readTextBytes(long recordOffset, int length) throws IOException {
+            ByteBuffer text = ByteBuffer.allocate(length);
+            readFully(text, recordOffset + RECORD_HEADER_BYTES);
+            return text.array();
+        }
+
+        /**
+         * First 64 bits of the SHA-256 of the UTF-8 text; unlike String.hashCode, collisions
+         * between different sign texts are not a practical concern.
+         */
+        private long digest(byte[] text) {
+            return ByteBuffer.wrap(sha256.digest(text)).getLong();
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (log.read(buffer, position + buffer.position()) < 0) throw new IOException("Unexpected end of sign log");
+            }
+        }
+
+        void close() throws IOException {
+            writeIndex();
+            log.close();
+        }
+
+        /**
+         * Writes the positional index next to the log, so the next open skips the replay.
+         */
+        private void writeIndex() throws IOException {
+            // The log must be on disk before an index that covers it.
+            log.force(false);
+            Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".part");
+            ByteBuffer buffer = ByteBuffer.allocate(INDEX_HEADER_BYTES + latest.size() * INDEX_ENTRY_BYTES);
+            buffer.putInt(INDEX_MAGIC).putInt(INDEX_FORMAT).putLong(logLength).putInt(latest.size());
+            for (Long2LongMap.Entry entry : latest.long2LongEntrySet()) {
+                buffer.putLong(entry.getLongKey()).putLong(entry.getLongValue()).putLong(textDigests.get(entry.getLongKey()));
+            }
+            buffer.flip();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) channel.write(buffer);
+            }
+            Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING);
+            appendsSinceIndex = 0;
+        }
+    }
+}
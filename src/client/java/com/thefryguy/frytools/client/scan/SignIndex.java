@@ -0,0 +1,287 @@
+package com.thefryguy.frytools.client.scan;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientBlockEntityEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.SignBlockEntity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Persistent client-side index of every sign seen this session, kept up to date from
+ * chunk load/unload, block-entity load/unload and block-entity update packets.
+ * <p>
+ * All mutation happens on the client thread. Readers receive immutable snapshots
+ * through {@link #addListener(Consumer)}, published at most once every few ticks.
+ */
+public final class SignIndex {
+    private static final SignIndex INSTANCE = new SignIndex();
+    // Minimum number of ticks between two published snapshots.
+    private static final int PUBLISH_INTERVAL_TICKS = 10;
+
+    private final Map<RegistryKey<World>, DimensionSigns> dimensions = new HashMap<>();
+    private final List<Consumer<List<SignRecord>>> listeners = new CopyOnWriteArrayList<>();
+    private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private RegistryKey<World> publishedDimension;
+    private boolean dirty = true;
+    private int ticksSincePublish;
+
+    private SignIndex() {
+    }
+
+    public static SignIndex getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientChunkEvents.CHUNK_LOAD.register(this::indexChunk);
+        ClientChunkEvents.CHUNK_UNLOAD.register(this::onChunkUnload);
+        ClientBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof SignBlockEntity sign) updateSign(world, sign);
+        });
+        ClientBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register(this::onBlockEntityUnload);
+        ClientTickEvents.END_CLIENT_TICK.register(this::tick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(this::clear));
+    }
+
+    /**
+     * Listeners are called on the client thread with the signs of the player's current dimension.
+     */
+    public void addListener(Consumer<List<SignRecord>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Change listeners are called on the client thread for every sign whose text is new or
+     * different, and for every sign that was broken.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Forces a snapshot to be published on the next client tick.
+     */
+    public void requestPublish() {
+        MinecraftClient.getInstance().execute(() -> {
+            dirty = true;
+            ticksSincePublish = PUBLISH_INTERVAL_TICKS;
+        });
+    }
+
+    /**
+     * Replaces everything known about the given chunk with its current sign block entities.
+     */
+    public void indexChunk(ClientWorld world, WorldChunk chunk) {
+        long now = System.currentTimeMillis();
+        List<SignRecord> records = new ArrayList<>();
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (blockEntity instanceof SignBlockEntity sign) {
+                records.add(new SignRecord(sign.getPos().asLong(), readText(sign), false, now));
+            }
+        }
+        mergeChunk(world, chunk.getPos().toLong(), records, now);
+    }
+
+    /**
+     * Replaces the signs of a chunk with the ones captured at {@code capturedAtMillis}. Entries
+     * updated after that moment (e.g. by an update packet while a scan was in flight) are kept.
+     */
+    public void mergeChunk(ClientWorld world, long chunkKey, List<SignRecord> records, long capturedAtMillis) {
+        DimensionSigns signs = dimension(world);
+        LongOpenHashSet previous = signs.signsByChunk.get(chunkKey);
+        if (previous != null) {
+            LongOpenHashSet captured = new LongOpenHashSet(records.size());
+            for (SignRecord record : records) captured.add(record.getPackedPos());
+            long[] known = previous.toLongArray();
+            for (long pos : known) {
+                SignRecord existing = signs.signs.get(pos);
+                if (!captured.contains(pos) && (existing == null || existing.getLastSeenMillis() <= capturedAtMillis)) {
+                    signs.remove(pos);
+                }
+            }
+        }
+
+        for (SignRecord record : records) {
+            SignRecord existing = signs.signs.get(record.getPackedPos());
+            if (existing == null || existing.getLastSeenMillis() <= capturedAtMillis) signs.put(record);
+        }
+        dirty = true;
+    }
+
+    public void updateSign(ClientWorld world, SignBlockEntity sign) {
+        dimension(world).put(new SignRecord(sign.getPos().asLong(), readText(sign), false, System.currentTimeMillis()));
+        dirty = true;
+    }
+
+    public int size() {
+        int total = 0;
+        for (DimensionSigns signs : dimensions.values()) total += signs.signs.size();
+        return total;
+    }
+
+    public void clear() {
+        dimensions.clear();
+        dirty = true;
+    }
+
+    public static String readText(SignBlockEntity sign) {
+        return readText(sign.getFrontText().getMessages(true));
+    }
+
+    /**
+     * Joins the non-empty lines of a sign. Only reads the immutable {@link Text}s, so it is safe off-thread.
+     */
+    public static String readText(Text[] lines) {
+        StringBuilder content = new StringBuilder();
+        for (Text line : lines) {
+            String lineText = line.getString();
+            if (lineText.isEmpty()) continue;
+            if (!content.isEmpty()) content.append(' ');
+            content.append(lineText);
+        }
+        return !content.isEmpty() ? content.toString() : "[Empty Sign]";
+    }
+
+    private void onChunkUnload(ClientWorld world, WorldChunk chunk) {
+        // Keep the signs but mark them, so they stay visible after the player walks away.
+        DimensionSigns signs = dimension(world);
+        LongOpenHashSet positions = signs.signsByChunk.get(chunk.getPos().toLong());
+        if (positions == null) return;
+        LongIterator it = positions.iterator();
+        while (it.hasNext()) {
+            long pos = it.nextLong();
+            SignRecord record = signs.signs.get(pos);
+            if (record != null) signs.signs.put(pos, record.asStale());
+        }
+        dirty = true;
+    }
+
+    private void onBlockEntityUnload(BlockEntity blockEntity, ClientWorld world) {
+        // Fired both when a sign is broken and when its chunk unloads; resolved at the end of the tick.
+        if (blockEntity instanceof SignBlockEntity) {
+            dimension(world).pendingRemovals.add(blockEntity.getPos().asLong());
+        }
+    }
+
+    private void tick(MinecraftClient client) {
+        if (client.world != null) {
+            processPendingRemovals(client.world);
+            if (client.world.getRegistryKey() != publishedDimension) dirty = true;
+        }
+
+        ticksSincePublish++;
+        if (!dirty || ticksSincePublish < PUBLISH_INTERVAL_TICKS || listeners.isEmpty()) return;
+        ticksSincePublish = 0;
+        dirty = false;
+
+        publishedDimension = client.world != null ? client.world.getRegistryKey() : null;
+        DimensionSigns signs = publishedDimension != null ? dimensions.get(publishedDimension) : null;
+        List<SignRecord> snapshot = signs != null
+                ? Collections.unmodifiableList(new ArrayList<>(signs.signs.values()))
+                : List.of();
+        for (Consumer<List<SignRecord>> listener : listeners) {
+            listener.accept(snapshot);
+        }
+    }
+
+    private void processPendingRemovals(ClientWorld world) {
+        for (Map.Entry<RegistryKey<World>, DimensionSigns> entry : dimensions.entrySet()) {
+            DimensionSigns signs = entry.getValue();
+            if (signs.pendingRemovals.isEmpty()) continue;
+            if (entry.getKey() != world.getRegistryKey()) {
+                signs.pendingRemovals.clear();
+                continue;
+            }
+
+            LongIterator it = signs.pendingRemovals.iterator();
+            while (it.hasNext()) {
+                long packed = it.nextLong();
+                BlockPos pos = BlockPos.fromLong(packed);
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(
+                        ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()));
+                // An unloaded chunk means the sign was only unloaded; it has already been marked stale.
+                if (chunk != null && !(chunk.getBlockEntity(pos) instanceof SignBlockEntity)) {
+                    signs.remove(packed);
+                    dirty = true;
+                }
+            }
+            signs.pendingRemovals.clear();
+        }
+    }
+
+    private DimensionSigns dimension(ClientWorld world) {
+        return dimensions.computeIfAbsent(world.getRegistryKey(), DimensionSigns::new);
+    }
+
+    private static long chunkKey(long packedPos) {
+        return ChunkPos.toLong(
+                ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(packedPos)),
+                ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(packedPos)));
+    }
+
+    /**
+     * Receives text changes and removals, e.g. to persist them.
+     */
+    public interface ChangeListener {
+        void onSignChanged(RegistryKey<World> dimension, SignRecord record);
+
+        void onSignRemoved(RegistryKey<World> dimension, long packedPos);
+    }
+
+    private final class DimensionSigns {
+        private final RegistryKey<World> key;
+        private final Long2ObjectOpenHashMap<SignRecord> signs = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<LongOpenHashSet> signsByChunk = new Long2ObjectOpenHashMap<>();
+        private final LongOpenHashSet pendingRemovals = new LongOpenHashSet();
+
+        private DimensionSigns(RegistryKey<World> key) {
+            this.key = key;
+        }
+
+        private void put(SignRecord record) {
+            SignRecord previous = signs.put(record.getPackedPos(), record);
+            if (previous == null || !previous.getText().equals(record.getText())) {
+                for (ChangeListener listener : changeListeners) listener.onSignChanged(key, record);
+            }
+            long chunkKey = chunkKey(record.getPackedPos());
+            LongOpenHashSet positions = signsByChunk.get(chunkKey);
+            if (positions == null) {
+                positions = new LongOpenHashSet();
+                signsByChunk.put(chunkKey, positions);
+            }
+            positions.add(record.getPackedPos());
+        }
+
+        private void remove(long packedPos) {
+            if (signs.remove(packedPos) != null) {
+                for (ChangeListener listener : changeListeners) listener.onSignRemoved(key, packedPos);
+            }
+            long chunkKey = chunkKey(packedPos);
+            LongOpenHashSet positions = signsByChunk.get(chunkKey);
+            if (positions != null && positions.remove(packedPos) && positions.isEmpty()) {
+                signsByChunk.remove(chunkKey);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.thefryguy.frytools.client.scan;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Immutable view of one sign known to the {@link SignIndex}.
+ */
+public final class SignRecord {
+    private final long packedPos;
+    private final String text;
+    private final boolean stale;
+    private final long lastSeenMillis;
+    private final boolean archived;
+
+    public SignRecord(long packedPos, String text, boolean stale, long lastSeenMillis) {
+        this(packedPos, text, stale, lastSeenMillis, false);
+    }
+
+    public SignRecord(long packedPos, String text, boolean stale, long lastSeenMillis, boolean archived) {
+        this.packedPos = packedPos;
+        this.text = text;
+        this.stale = stale || archived;
+        this.lastSeenMillis = lastSeenMillis;
+        this.archived = archived;
+    }
+
+    public long getPackedPos() { return packedPos; }
+    public int getX() { return BlockPos.unpackLongX(packedPos); }
+    public int getY() { return BlockPos.unpackLongY(packedPos); }
+    public int getZ() { return BlockPos.unpackLongZ(packedPos); }
+    public BlockPos getPos() { return BlockPos.fromLong(packedPos); }
+    public String getText() { return text; }
+
+    /**
+     * True when the chunk holding this sign has been unloaded, so the text may be out of date.
+     */
+    public boolean isStale() { return stale; }
+    public long getLastSeenMillis() { return lastSeenMillis; }
+
+    /**
+     * True when the record was read back from the {@link SignArchive} rather than seen this session.
+     */
+    public boolean isArchived() { return archived; }
+
+    public String getStatus() {
+        return archived ? "Archived" : stale ? "Stale" : "Loaded";
+    }
+
+    SignRecord asStale() {
+        return stale ? this : new SignRecord(packedPos, text, true, lastSeenMillis);
+    }
+}
@@ -0,0 +1,88 @@
+package com.thefryguy.frytools.client.scan;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.SignBlockEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Time-sliced rescan that feeds the {@link SignIndex}. The client thread only copies sign
+ * positions and their immutable text lines per chunk; joining the text into records happens
+ * on the scan workers.
+ * <p>
+ * Work units are whole chunks rather than sections because block entities are stored per chunk.
+ */
+public class SignScanTask extends TimeSlicedScan<SignScanTask.ChunkSigns, List<SignScanTask.ChunkSigns>> {
+    private final SignIndex signIndex;
+    private int signsFound;
+
+    public SignScanTask(ClientWorld world, long[] chunkKeys, SignIndex signIndex) {
+        super(world, chunkKeys);
+        this.signIndex = signIndex;
+    }
+
+    public int getSignsFound() {
+        return signsFound;
+    }
+
+    @Override
+    protected ChunkSigns collect(ClientWorld world, long chunkKey) {
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(ChunkPos.getPackedX(chunkKey), ChunkPos.getPackedZ(chunkKey));
+        if (chunk == null) return null;
+
+        ChunkSigns signs = new ChunkSigns(chunkKey, System.currentTimeMillis());
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (blockEntity instanceof SignBlockEntity sign) {
+                signs.positions.add(sign.getPos().asLong());
+                signs.lines.add(sign.getFrontText().getMessages(true).clone());
+            }
+        }
+        return signs;
+    }
+
+    @Override
+    protected List<ChunkSigns> process(List<ChunkSigns> batch) {
+        for (ChunkSigns signs : batch) {
+            signs.records = new ArrayList<>(signs.positions.size());
+            for (int i = 0; i < signs.positions.size(); i++) {
+                signs.records.add(new SignRecord(signs.positions.getLong(i), SignIndex.readText(signs.lines.get(i)),
+                        false, signs.capturedAtMillis));
+            }
+        }
+        return batch;
+    }
+
+    @Override
+    protected void onBatch(List<ChunkSigns> batch) {
+        for (ChunkSigns signs : batch) {
+            // Chunks unloaded since they were copied are already marked stale by the index.
+            int chunkX = ChunkPos.getPackedX(signs.chunkKey);
+            int chunkZ = ChunkPos.getPackedZ(signs.chunkKey);
+            if (!getWorld().getChunkManager().isChunkLoaded(chunkX, chunkZ)) continue;
+            signIndex.mergeChunk(getWorld(), signs.chunkKey, signs.records, signs.capturedAtMillis);
+            signsFound += signs.records.size();
+        }
+    }
+
+    /**
+     * Signs copied out of one chunk; {@code records} is filled in by the worker.
+     */
+    public static final class ChunkSigns {
+        private final long chunkKey;
+        private final long capturedAtMillis;
+        private final LongArrayList positions = new LongArrayList();
+        private final List<Text[]> lines = new ArrayList<>();
+        private List<SignRecord> records;
+
+        private ChunkSigns(long chunkKey, long capturedAtMillis) {
+            this.chunkKey = chunkKey;
+            this.capturedAtMillis = capturedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.thefryguy.frytools.client.scan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable inverted index over sign texts. Documents are identified by their position in the
+ * list the index was built from.
+ * <p>
+ * Whole tokens are kept in a sorted dictionary for prefix lookups, and every token is also split
+ * into trigrams so that substrings of three or more characters are answered by intersecting
+ * trigram posting lists and verifying the few remaining candidates.
+ */
+public final class SignTextIndex {
+    private static final int[] NO_DOCS = new int[0];
+
+    private final String[] documents;
+    private final String[] tokens;
+    private final int[][] tokenPostings;
+    private final Map<String, int[]> trigramPostings;
+    private final long buildNanos;
+    private final long estimatedBytes;
+
+    // Last query and its result, so that a query typed further only narrows the previous result.
+    private String lastQuery = "";
+    private int[] lastResult;
+
+    private SignTextIndex(String[] documents, String[] tokens, int[][] tokenPostings,
+                          Map<String, int[]> trigramPostings, long buildNanos, long estimatedBytes) {
+        this.documents = documents;
+        this.tokens = tokens;
+        this.tokenPostings = tokenPostings;
+        this.trigramPostings = trigramPostings;
+        this.buildNanos = buildNanos;
+        this.estimatedBytes = estimatedBytes;
+        this.lastResult = allDocuments();
+    }
+
+    public static SignTextIndex build(List<String> texts) {
+        long start = System.nanoTime();
+        String[] documents = new String[texts.size()];
+        Map<String, PostingBuilder> tokenBuilders = new HashMap<>();
+        Map<String, PostingBuilder> trigramBuilders = new HashMap<>();
+
+        for (int doc = 0; doc < documents.length; doc++) {
+            String text = texts.get(doc).toLowerCase(Locale.ROOT);
+            documents[doc] = text;
+            for (String token : tokenize(text)) {
+                tokenBuilders.computeIfAbsent(token, key -> new PostingBuilder()).add(doc);
+                for (int i = 0; i + 3 <= token.length(); i++) {
+                    trigramBuilders.computeIfAbsent(token.substring(i, i + 3), key -> new PostingBuilder()).add(doc);
+                }
+            }
+        }
+
+        String[] tokens = tokenBuilders.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+        int[][] tokenPostings = new int[tokens.length][];
+        long bytes = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            tokenPostings[i] = tokenBuilders.get(tokens[i]).toArray();
+            bytes += estimateStringBytes(tokens[i]) + 16L + 4L * tokenPostings[i].length;
+        }
+
+        Map<String, int[]> trigramPostings = new HashMap<>(trigramBuilders.size() * 2);
+        for (Map.Entry<String, PostingBuilder> entry : trigramBuilders.entrySet()) {
+            int[] postings = entry.getValue().toArray();
+            trigramPostings.put(entry.getKey(), postings);
+            // Key, posting array and hash map node.
+            bytes += estimateStringBytes(entry.getKey()) + 16L + 4L * postings.length + 48L;
+        }
+        for (String document : documents) bytes += estimateStringBytes(document);
+
+        return new SignTextIndex(documents, tokens, tokenPostings, trigramPostings,
+                System.nanoTime() - start, bytes);
+    }
+
+    public int size() { return documents.length; }
+    public int getTokenCount() { return tokens.length; }
+    public int getTrigramCount() { return trigramPostings.size(); }
+    public long getBuildNanos() { return buildNanos; }
+
+    /**
+     * Rough heap footprint of the index, including the lower-cased copies of the texts.
+     */
+    public long getEstimatedBytes() { return estimatedBytes; }
+
+    /**
+     * Returns the ids of all documents containing every word of the query, in ascending order.
+     * Words shorter than three characters match token prefixes, longer ones match any substring.
+     * Not thread-safe: meant to be called from a single (UI) thread.
+     */
+    public int[] search(String query) {
+        String normalized = query.toLowerCase(Locale.ROOT).trim();
+        List<String> words = tokenize(normalized);
+        if (words.isEmpty()) {
+            lastQuery = "";
+            lastResult = allDocuments();
+            return lastResult;
+        }
+
+        int[] result;
+        if (!lastQuery.isEmpty() && normalized.startsWith(lastQuery) && sameMatchModes(tokenize(lastQuery), words)) {
+            // Typing further can only remove matches: verify the previous result instead of starting over.
+            result = verify(lastResult, words);
+        } else {
+            result = null;
+            for (String word : words) {
+                int[] candidates = word.length() >= 3 ? substringCandidates(word) : prefixMatches(word);
+                result = result == null ? candidates : intersect(result, candidates);
+                if (result.length == 0) break;
+            }
+            result = verify(result, words);
+        }
+
+        lastQuery = normalized;
+        lastResult = result;
+        return result;
+    }
+
+    /**
+     * True if every word of the previous query is matched the same way (token prefix or
+     * substring) in the new one. A word that grows from two to three characters switches from
+     * prefix to substring matching and can match texts the shorter word did not.
+     */
+    private static boolean sameMatchModes(List<String> previousWords, List<String> words) {
+        for (int i = 0; i < previousWords.size(); i++) {
+            if ((previousWords.get(i).length() >= 3) != (words.get(i).length() >= 3)) return false;
+        }
+        return true;
+    }
+
+    private int[] substringCandidates(String word) {
+        int[] candidates = null;
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            int[] postings = trigramPostings.getOrDefault(word.substring(i, i + 3), NO_DOCS);
+            candidates = candidates == null ? postings : intersect(candidates, postings);
+            if (candidates.length == 0) break;
+        }
+        return candidates;
+    }
+
+    private int[] prefixMatches(String prefix) {
+        int from = Arrays.binarySearch(tokens, prefix);
+        if (from < 0) from = -from - 1;
+        // Short prefixes can cover many tokens; mark documents in a bit set instead of merging pairwise.
+        BitSet matches = new BitSet(documents.length);
+        for (int i = from; i < tokens.length && tokens[i].startsWith(prefix); i++) {
+            for (int doc : tokenPostings[i]) matches.set(doc);
+        }
+        return matches.stream().toArray();
+    }
+
+    private int[] verify(int[] candidates, List<String> words) {
+        int[] verified = new int[candidates.length];
+        int count = 0;
+        for (int doc : candidates) {
+            if (matchesAll(doc, words)) verified[count++] = doc;
+        }
+        return count == verified.length ? verified : Arrays.copyOf(verified, count);
+    }
+
+    private boolean matchesAll(int doc, List<String> words) {
+        String text = documents[doc];
+        for (String word : words) {
+            if (word.length() >= 3) {
+                if (!text.contains(word)) return false;
+            } else if (!containsTokenPrefix(text, word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsTokenPrefix(String text, String prefix) {
+        int index = text.indexOf(prefix);
+        while (index >= 0) {
+            if (index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1))) return true;
+            index = text.indexOf(prefix, index + 1);
+        }
+        return false;
+    }
+
+    private int[] allDocuments() {
+        int[] all = new int[documents.length];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        return all;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static long estimateStringBytes(String s) {
+        // Object header, fields and backing byte array (Latin-1 compact strings).
+        return 40L + s.length();
+    }
+
+    /**
+     * Growable sorted posting list; a document id is only added once even if a word repeats.
+     */
+    private static final class PostingBuilder {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) return;
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+            docs[size++] = doc;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(docs, size);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.thefryguy.frytools.client.scan;
+
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A scan split into small work units (chunks or chunk sections, packed as longs) that is
+ * driven by the {@link ScanScheduler}.
+ * <p>
+ * Each tick, {@link #collect} copies the game data of as many units as fit in the tick budget
+ * on the client thread. The copies of one tick form a batch that is handed to the worker pool
+ * for {@link #process}, and finished batches are passed back to {@link #onBatch} on the client
+ * thread at the start of a later tick.
+ *
+ * @param <S> copied per-unit snapshot, must not reference live game objects that can change
+ * @param <R> result of processing one batch
+ */
+public abstract class TimeSlicedScan<S, R> {
+    private final ClientWorld world;
+    private final long[] units;
+    private final ConcurrentLinkedQueue<R> finishedBatches = new ConcurrentLinkedQueue<>();
+    // Batches that finished without a result because process threw; they still count as done.
+    private final AtomicInteger failedBatches = new AtomicInteger();
+    private final AtomicLong workerNanos = new AtomicLong();
+    private Consumer<ScanProgress> progressListener = progress -> {};
+    private int nextUnit;
+    private int completedUnits;
+    private int pendingBatches;
+    private long startNanos;
+    private long clientThreadNanos;
+    private volatile boolean cancelled;
+
+    protected TimeSlicedScan(ClientWorld world, long[] units) {
+        this.world = world;
+        this.units = units;
+    }
+
+    /**
+     * Client thread: copy whatever {@link #process} needs from the unit, or return null to skip it.
+     */
+    protected abstract S collect(ClientWorld world, long unit);
+
+    /**
+     * Worker thread: turn the snapshots collected in one tick into a result.
+     */
+    protected abstract R process(List<S> batch);
+
+    /**
+     * Client thread: consume one finished batch.
+     */
+    protected abstract void onBatch(R result);
+
+    /**
+     * Chunk keys of the square of chunks around the center, ordered nearest first.
+     */
+    public static long[] chunksNearestFirst(int centerChunkX, int centerChunkZ, int chunkRadius) {
+        int side = chunkRadius * 2 + 1;
+        long[] keys = new long[side * side];
+        int[] distances = new int[keys.length];
+        Integer[] order = new Integer[keys.length];
+        int i = 0;
+        for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
+            for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
+                keys[i] = ChunkPos.toLong(centerChunkX + dx, centerChunkZ + dz);
+                distances[i] = dx * dx + dz * dz;
+                order[i] = i;
+                i++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(distances[a], distances[b]));
+        long[] sorted = new long[keys.length];
+        for (int j = 0; j < order.length; j++) sorted[j] = keys[order[j]];
+        return sorted;
+    }
+
+    public void setProgressListener(Consumer<ScanProgress> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public ClientWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Safe to call from any thread; the scan stops at the next tick.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Runs one time slice on the client thread and returns true once the scan has finished.
+     */
+    final boolean tick(long budgetNanos, ExecutorService workers) {
+        long tickStart = System.nanoTime();
+        if (startNanos == 0) startNanos = tickStart;
+
+        R result;
+        while ((result = finishedBatches.poll()) != null) {
+            pendingBatches--;
+            if (!cancelled) onBatch(result);
+        }
+        pendingBatches -= failedBatches.getAndSet(0);
+
+        if (!cancelled && nextUnit < units.length) {
+            List<S> batch = new ArrayList<>();
+            int batchUnits = 0;
+            long deadline = tickStart + budgetNanos;
+            do {
+                S snapshot = collect(world, units[nextUnit++]);
+                if (snapshot != null) batch.add(snapshot);
+                batchUnits++;
+            } while (nextUnit < units.length && System.nanoTime() < deadline);
+
+            int unitsInBatch = batchUnits;
+            pendingBatches++;
+            workers.execute(() -> {
+                long workStart = System.nanoTime();
+                R processed = null;
+                try {
+                    processed = process(batch);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                    System.err.println("Error processing scan batch: " + e.getMessage());
+                } finally {
+                    // Always report the batch, or the scan would wait for it forever.
+                    workerNanos.addAndGet(System.nanoTime() - workStart);
+                    synchronized (this) {
+                        completedUnits += unitsInBatch;
+                    }
+                    if (processed != null) finishedBatches.add(processed);
+                    else failedBatches.incrementAndGet();
+                }
+            });
+        }
+
+        boolean done = cancelled || (nextUnit >= units.length && pendingBatches == 0);
+        clientThreadNanos += System.nanoTime() - tickStart;
+        int completed;
+        synchronized (this) {
+            completed = completedUnits;
+        }
+        progressListener.accept(new ScanProgress(completed, units.length, System.nanoTime() - startNanos,
+                clientThreadNanos, workerNanos.get(), done, cancelled));
+        return done;
+    }
+}
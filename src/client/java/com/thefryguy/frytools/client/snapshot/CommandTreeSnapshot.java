@@ -0,0 +1,29 @@
+package com.thefryguy.frytools.client.snapshot;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.thefryguy.frytools.client.ServerIdentity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.command.CommandSource;
+
+/**
+ * The command dispatcher the server last sent. The client replaces the dispatcher on every
+ * command tree packet instead of changing it, so its tree can be read from any thread.
+ */
+public final class CommandTreeSnapshot {
+    private final CommandDispatcher<CommandSource> dispatcher;
+    private final String serverName;
+
+    private CommandTreeSnapshot(CommandDispatcher<CommandSource> dispatcher, String serverName) {
+        this.dispatcher = dispatcher;
+        this.serverName = serverName;
+    }
+
+    static CommandTreeSnapshot capture(MinecraftClient client) {
+        if (client.getNetworkHandler() == null) return null;
+        return new CommandTreeSnapshot(client.getNetworkHandler().getCommandDispatcher(),
+                ServerIdentity.currentServerName(client));
+    }
+
+    public CommandDispatcher<CommandSource> getDispatcher() { return dispatcher; }
+    public String getServerName() { return serverName; }
+}
@@ -0,0 +1,74 @@
+package com.thefryguy.frytools.client.snapshot;
+
+import com.thefryguy.frytools.client.ServerIdentity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.client.network.PlayerListEntry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Immutable copy of the local player's state and where they are connected.
+ */
+public final class PlayerSnapshot {
+    private final String serverName;
+    private final RegistryKey<World> dimensionKey;
+    private final String dimension;
+    private final String playerName;
+    private final int blockX;
+    private final int blockY;
+    private final int blockZ;
+    private final int pingMillis;
+    private final int fps;
+    private final long timeOfDay;
+
+    private PlayerSnapshot(String serverName, RegistryKey<World> dimensionKey, String dimension, String playerName,
+                           int blockX, int blockY, int blockZ, int pingMillis, int fps, long timeOfDay) {
+        this.serverName = serverName;
+        this.dimensionKey = dimensionKey;
+        this.dimension = dimension;
+        this.playerName = playerName;
+        this.blockX = blockX;
+        this.blockY = blockY;
+        this.blockZ = blockZ;
+        this.pingMillis = pingMillis;
+        this.fps = fps;
+        this.timeOfDay = timeOfDay;
+    }
+
+    /**
+     * Captures the player's state, or returns null when not in a world. Client thread only.
+     */
+    static PlayerSnapshot capture(MinecraftClient client) {
+        if (client.world == null || client.player == null) return null;
+        BlockPos pos = client.player.getBlockPos();
+        int ping = -1;
+        ClientPlayNetworkHandler networkHandler = client.getNetworkHandler();
+        if (networkHandler != null) {
+            PlayerListEntry entry = networkHandler.getPlayerListEntry(client.player.getUuid());
+            if (entry != null) ping = entry.getLatency();
+        }
+        return new PlayerSnapshot(ServerIdentity.currentServerName(client), client.world.getRegistryKey(),
+                ServerIdentity.currentDimension(client), client.player.getName().getString(),
+                pos.getX(), pos.getY(), pos.getZ(), ping, client.getCurrentFps(), client.world.getTimeOfDay());
+    }
+
+    public String getServerName() { return serverName; }
+    public RegistryKey<World> getDimensionKey() { return dimensionKey; }
+    public String getDimension() { return dimension; }
+    public String getPlayerName() { return playerName; }
+    public int getBlockX() { return blockX; }
+    public int getBlockY() { return blockY; }
+    public int getBlockZ() { return blockZ; }
+    public BlockPos getBlockPos() { return new BlockPos(blockX, blockY, blockZ); }
+    public int getChunkX() { return blockX >> 4; }
+    public int getChunkZ() { return blockZ >> 4; }
+
+    /**
+     * Latency from the player list, -1 if the server hasn't sent one.
+     */
+    public int getPingMillis() { return pingMillis; }
+    public int getFps() { return fps; }
+    public long getTimeOfDay() { return timeOfDay; }
+}
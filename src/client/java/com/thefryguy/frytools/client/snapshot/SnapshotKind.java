@@ -0,0 +1,41 @@
+package com.thefryguy.frytools.client.snapshot;
+
+import net.minecraft.client.MinecraftClient;
+
+import java.util.function.Function;
+
+/**
+ * One kind of data the {@link SnapshotService} can sample. The sampler runs on the client
+ * thread and must return an immutable value, or null when there is nothing to sample.
+ */
+public final class SnapshotKind<T> {
+    private final String name;
+    private final Function<MinecraftClient, T> sampler;
+    // Written on the client thread, read by the UI for the cost overview.
+    private volatile long samples;
+    private volatile long totalNanos;
+    private volatile long lastNanos;
+
+    public SnapshotKind(String name, Function<MinecraftClient, T> sampler) {
+        this.name = name;
+        this.sampler = sampler;
+    }
+
+    T sample(MinecraftClient client) {
+        long start = System.nanoTime();
+        T value = sampler.apply(client);
+        lastNanos = System.nanoTime() - start;
+        totalNanos += lastNanos;
+        samples++;
+        return value;
+    }
+
+    public String getName() { return name; }
+    public long getSamples() { return samples; }
+    public long getLastNanos() { return lastNanos; }
+
+    public double getAverageMillis() {
+        long count = samples;
+        return count == 0 ? 0 : totalNanos / (double) count / 1_000_000.0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.thefryguy.frytools.client.snapshot;
+
+import com.thefryguy.frytools.client.command.CommandBatchRunner;
+import com.thefryguy.frytools.client.command.CommandBatchStats;
+import com.thefryguy.frytools.client.entity.EntityHistory;
+import com.thefryguy.frytools.client.entity.EntitySnapshot;
+import com.thefryguy.frytools.client.entity.EntityTracker;
+import com.thefryguy.frytools.client.perf.ChunkMetrics;
+import com.thefryguy.frytools.client.perf.ChunkStats;
+import com.thefryguy.frytools.client.perf.FrameStats;
+import com.thefryguy.frytools.client.perf.FrameTimeRecorder;
+import com.thefryguy.frytools.client.perf.LatencyTracker;
+import com.thefryguy.frytools.client.perf.NetworkStats;
+import com.thefryguy.frytools.client.perf.PacketCounters;
+import com.thefryguy.frytools.client.perf.PlayerLatency;
+import com.thefryguy.frytools.client.perf.RuntimeSampler;
+import com.thefryguy.frytools.client.perf.RuntimeStats;
+import com.thefryguy.frytools.client.perf.TpsEstimator;
+import com.thefryguy.frytools.client.perf.TpsSnapshot;
+import com.thefryguy.frytools.client.scan.BlockEntityCensus;
+import com.thefryguy.frytools.client.scan.ChunkDensity;
+import javafx.application.Platform;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single place where the UI reads game state. Panels request a {@link SnapshotKind} from the
+ * FX thread; at the end of the next client tick each requested kind is sampled once, however
+ * many panels asked for it, and the immutable result is handed back on the FX thread.
+ * Nothing is sampled while nobody asks.
+ */
+public final class SnapshotService {
+    private static final SnapshotService INSTANCE = new SnapshotService();
+
+    // Positions sampled per entity type, and points per history sparkline.
+    public static final int ENTITY_SAMPLES_PER_TYPE = 10;
+    public static final int ENTITY_HISTORY_POINTS = 60;
+    public static final int HOT_CHUNKS = 20;
+    public static final int LATENCY_GRAPH_POINTS = 60;
+
+    // Keeps its counting buffers between samples; only used on the client thread.
+    private static final BlockEntityCensus BLOCK_ENTITY_CENSUS = new BlockEntityCensus();
+
+    public static final SnapshotKind<PlayerSnapshot> PLAYER = new SnapshotKind<>("player", PlayerSnapshot::capture);
+    public static final SnapshotKind<EntitySnapshot> ENTITIES = new SnapshotKind<>("entities", client ->
+            client.world == null ? null
+                    : EntityTracker.getInstance().snapshot(client.world, client.player, ENTITY_SAMPLES_PER_TYPE));
+    public static final SnapshotKind<EntityHistory.Snapshot> ENTITY_HISTORY = new SnapshotKind<>("entity history",
+            client -> EntityHistory.getInstance().snapshot(ENTITY_HISTORY_POINTS));
+    public static final SnapshotKind<ChunkDensity> CHUNK_DENSITY = new SnapshotKind<>("chunk density", client ->
+            client.world == null || client.player == null ? null
+                    : EntityTracker.getInstance().chunkDensity(client.world, client.player,
+                    client.player.getChunkPos().x, client.player.getChunkPos().z, HOT_CHUNKS));
+    public static final SnapshotKind<ChunkDensity> BLOCK_ENTITIES = new SnapshotKind<>("block entities", client ->
+            client.world == null || client.player == null ? null
+                    : BLOCK_ENTITY_CENSUS.count(client.world, client.player.getChunkPos().x, client.player.getChunkPos().z,
+                    client.options.getClampedViewDistance(), HOT_CHUNKS));
+    public static final SnapshotKind<TpsSnapshot> TPS = new SnapshotKind<>("tps",
+            client -> TpsEstimator.getInstance().snapshot(System.nanoTime()));
+    public static final SnapshotKind<FrameStats> FRAMES = new SnapshotKind<>("frames",
+            client -> FrameTimeRecorder.getInstance().snapshot());
+    public static final SnapshotKind<RuntimeStats> RUNTIME = new SnapshotKind<>("runtime",
+            client -> RuntimeSampler.getInstance().sample());
+    public static final SnapshotKind<NetworkStats> NETWORK = new SnapshotKind<>("network",
+            client -> PacketCounters.getInstance().snapshot());
+    public static final SnapshotKind<List<PlayerLatency>> PLAYER_LATENCY = new SnapshotKind<>("player latency",
+            client -> LatencyTracker.getInstance().snapshot(LATENCY_GRAPH_POINTS));
+    public static final SnapshotKind<ChunkStats> CHUNKS = new SnapshotKind<>("chunks",
+            client -> ChunkMetrics.getInstance().snapshot(client));
+    public static final SnapshotKind<CommandTreeSnapshot> COMMANDS = new SnapshotKind<>("commands", CommandTreeSnapshot::capture);
+    public static final SnapshotKind<CommandBatchStats> COMMAND_BATCH = new SnapshotKind<>("command batch",
+            client -> CommandBatchRunner.getInstance().snapshot());
+
+    private final Queue<Request<?>> pending = new ConcurrentLinkedQueue<>();
+    // Values sampled during the current tick; only touched on the client thread.
+    private final Map<SnapshotKind<?>, Object> sampledThisTick = new IdentityHashMap<>();
+    private final List<SnapshotKind<?>> sampledKinds = new CopyOnWriteArrayList<>();
+
+    private SnapshotService() {
+    }
+
+    public static SnapshotService getInstance() {
+        return INSTANCE;
+    }
+
+    public void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+    }
+
+    /**
+     * Deliver the next sample of {@code kind} to {@code consumer} on the FX thread. Nothing is
+     * delivered if the kind has no value, e.g. while not in a world. May be called from any thread.
+     */
+    public <T> void request(SnapshotKind<T> kind, Consumer<? super T> consumer) {
+        pending.add(new Request<>(kind, consumer));
+    }
+
+    private void onTick(MinecraftClient client) {
+        if (pending.isEmpty()) return;
+        sampledThisTick.clear();
+        Request<?> request;
+        while ((request = pending.poll()) != null) {
+            deliver(request, client);
+        }
+        sampledThisTick.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void deliver(Request<T> request, MinecraftClient client) {
+        T value;
+        if (sampledThisTick.containsKey(request.kind)) {
+            value = (T) sampledThisTick.get(request.kind);
+        } else {
+            try {
+                value = request.kind.sample(client);
+            } catch (Exception e) {
+                System.err.println("Failed to sample " + request.kind.getName() + ": " + e.getMessage());
+                e.printStackTrace();
+                value = null;
+            }
+            sampledThisTick.put(request.kind, value);
+            if (!sampledKinds.contains(request.kind)) sampledKinds.add(request.kind);
+        }
+        if (value != null) {
+            T delivered = value;
+            Platform.runLater(() -> request.consumer.accept(delivered));
+        }
+    }
+
+    /**
+     * Average sampling cost of every kind sampled so far, e.g. {@code player 0.01 ms, entities 0.20 ms}.
+     */
+    public String describeCosts() {
+        StringBuilder costs = new StringBuilder();
+        for (SnapshotKind<?> kind : sampledKinds) {
+            if (costs.length() > 0) costs.append(", ");
+            costs.append(String.format("%s %.2f ms", kind.getName(), kind.getAverageMillis()));
+        }
+        return costs.length() == 0 ? "Nothing sampled yet" : costs.toString();
+    }
+
+    private static final class Request<T> {
+        private final SnapshotKind<T> kind;
+        private final Consumer<? super T> consumer;
+
+        private Request(SnapshotKind<T> kind, Consumer<? super T> consumer) {
+            this.kind = kind;
+            this.consumer = consumer;
+        }
+    }
+}
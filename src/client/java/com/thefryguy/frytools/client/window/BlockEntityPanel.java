@@ -0,0 +1,211 @@
+package com.thefryguy.frytools.client.window;
+
+import com.thefryguy.frytools.client.scan.BlockEntityTypeNames;
+import com.thefryguy.frytools.client.scan.ChunkDensity;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loaded block entities around the player, totalled by type and by chunk. Clicking a chunk
+ * copies its chunk and world coordinates.
+ */
+public class BlockEntityPanel extends VBox {
+    // Types listed per hot chunk in the table.
+    private static final int TYPES_PER_CHUNK = 3;
+
+    private final ObservableList<TypeRow> typeRows = FXCollections.observableArrayList();
+    private final ObservableList<ChunkRow> chunkRows = FXCollections.observableArrayList();
+    private final Label statusLabel = new Label("Press Count to count block entities");
+
+    public BlockEntityPanel() {
+        super(10);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: #C0C0C0;");
+        setupUI();
+    }
+
+    public static Node createBlockEntityPanel() {
+        return new BlockEntityPanel();
+    }
+
+    private void setupUI() {
+        Label titleLabel = new Label("Block Entities");
+        titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
+
+        Button countButton = new Button("Count");
+        countButton.setStyle(createButtonStyle());
+        countButton.setOnAction(e -> updateCounts());
+
+        TableView<TypeRow> typeTable = createTypeTable();
+        TableView<ChunkRow> chunkTable = createChunkTable();
+        HBox.setHgrow(chunkTable, Priority.ALWAYS);
+        HBox tables = new HBox(10, typeTable, chunkTable);
+
+        statusLabel.setStyle("-fx-text-fill: #000000;");
+        getChildren().addAll(titleLabel, new HBox(10, countButton), tables, statusLabel);
+    }
+
+    private TableView<TypeRow> createTypeTable() {
+        TableView<TypeRow> table = createStyledTable(typeRows);
+        table.setPrefWidth(230);
+
+        TableColumn<TypeRow, String> typeCol = new TableColumn<>("Type");
+        typeCol.setCellValueFactory(cellData -> cellData.getValue().typeProperty());
+        typeCol.setPrefWidth(150);
+
+        TableColumn<TypeRow, Number> countCol = new TableColumn<>("Count");
+        countCol.setCellValueFactory(cellData -> cellData.getValue().countProperty());
+        countCol.setPrefWidth(60);
+
+        table.getColumns().addAll(typeCol, countCol);
+        return table;
+    }
+
+    private TableView<ChunkRow> createChunkTable() {
+        TableView<ChunkRow> table = createStyledTable(chunkRows);
+
+        TableColumn<ChunkRow, String> chunkCol = new TableColumn<>("Chunk");
+        chunkCol.setCellValueFactory(cellData -> cellData.getValue().chunkProperty());
+        chunkCol.setPrefWidth(80);
+
+        TableColumn<ChunkRow, String> worldCol = new TableColumn<>("World");
+        worldCol.setCellValueFactory(cellData -> cellData.getValue().worldProperty());
+        worldCol.setPrefWidth(90);
+
+        TableColumn<ChunkRow, Number> countCol = new TableColumn<>("Count");
+        countCol.setCellValueFactory(cellData -> cellData.getValue().countProperty());
+        countCol.setPrefWidth(55);
+
+        TableColumn<ChunkRow, String> typesCol = new TableColumn<>("Top Types");
+        typesCol.setCellValueFactory(cellData -> cellData.getValue().typesProperty());
+        typesCol.setPrefWidth(220);
+
+        table.getColumns().addAll(chunkCol, worldCol, countCol, typesCol);
+        table.setRowFactory(tv -> {
+            TableRow<ChunkRow> row = new TableRow<>();
+            row.setOnMouseClicked(e -> {
+                if (!row.isEmpty()) copyChunk(row.getItem());
+            });
+            return row;
+        });
+        return table;
+    }
+
+    private <T> TableView<T> createStyledTable(ObservableList<T> rows) {
+        TableView<T> table = new TableView<>(rows);
+        table.setPlaceholder(new Label("Nothing counted yet"));
+        table.setPrefHeight(420);
+        table.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px; " +
+                        "-fx-background-color: white;"
+        );
+        return table;
+    }
+
+    private String createButtonStyle() {
+        return "-fx-background-color: #C0C0C0; " +
+                "-fx-border-color: #FFFFFF #808080 #808080 #FFFFFF; " +
+                "-fx-border-width: 2px; " +
+                "-fx-font-family: 'MS Sans Serif'; " +
+                "-fx-font-size: 12px; " +
+                "-fx-padding: 3 8 3 8;";
+    }
+
+    private void updateCounts() {
+        statusLabel.setText("Counting...");
+        SnapshotService.getInstance().request(SnapshotService.BLOCK_ENTITIES, this::showCounts);
+    }
+
+    private void showCounts(ChunkDensity density) {
+        List<TypeRow> types = new ArrayList<>(density.getTypeCount());
+        for (int rank = 0; rank < density.getTypeCount(); rank++) {
+            types.add(new TypeRow(BlockEntityTypeNames.get(density.getTypeId(rank)), density.getTypeTotal(rank)));
+        }
+        typeRows.setAll(types);
+
+        List<ChunkRow> chunks = new ArrayList<>(density.getHotChunkCount());
+        for (int rank = 0; rank < density.getHotChunkCount(); rank++) {
+            long key = density.getHotChunkKey(rank);
+            chunks.add(new ChunkRow(ChunkPos.getPackedX(key), ChunkPos.getPackedZ(key), density.getHotTotal(rank),
+                    describeTypes(density.getHotTypeIds(rank), density.getHotTypeCounts(rank))));
+        }
+        chunkRows.setAll(chunks);
+
+        statusLabel.setText(String.format("%d block entities of %d types in %d chunks - counted in %.2f ms",
+                density.getTotalEntities(), density.getTypeCount(), density.getChunkCount(),
+                density.getCollectNanos() / 1_000_000.0));
+    }
+
+    private static String describeTypes(int[] typeIds, int[] counts) {
+        StringBuilder types = new StringBuilder();
+        for (int i = 0; i < Math.min(typeIds.length, TYPES_PER_CHUNK); i++) {
+            if (i > 0) types.append(", ");
+            types.append(BlockEntityTypeNames.get(typeIds[i])).append(' ').append(counts[i]);
+        }
+        if (typeIds.length > TYPES_PER_CHUNK) types.append(", ...");
+        return types.toString();
+    }
+
+    private void copyChunk(ChunkRow row) {
+        String text = String.format("Chunk %s - World %s", row.getChunk(), row.getWorld());
+        ClipboardContent cc = new ClipboardContent();
+        cc.putString(text);
+        Clipboard.getSystemClipboard().setContent(cc);
+        statusLabel.setText("Copied: " + text);
+    }
+
+    public static class TypeRow {
+        private final SimpleStringProperty type;
+        private final SimpleIntegerProperty count;
+
+        public TypeRow(String type, int count) {
+            this.type = new SimpleStringProperty(type);
+            this.count = new SimpleIntegerProperty(count);
+        }
+
+        public SimpleStringProperty typeProperty() { return type; }
+        public SimpleIntegerProperty countProperty() { return count; }
+    }
+
+    public static class ChunkRow {
+        private final SimpleStringProperty chunk;
+        private final SimpleStringProperty world;
+        private final SimpleIntegerProperty count;
+        private final SimpleStringProperty types;
+
+        public ChunkRow(int chunkX, int chunkZ, int count, String types) {
+            this.chunk = new SimpleStringProperty(chunkX + ", " + chunkZ);
+            // World coordinates point at the middle of the chunk, ready for a teleport.
+            this.world = new SimpleStringProperty(((chunkX << 4) + 8) + ", " + ((chunkZ << 4) + 8));
+            this.count = new SimpleIntegerProperty(count);
+            this.types = new SimpleStringProperty(types);
+        }
+
+        public String getChunk() { return chunk.get(); }
+        public String getWorld() { return world.get(); }
+        public SimpleStringProperty chunkProperty() { return chunk; }
+        public SimpleStringProperty worldProperty() { return world; }
+        public SimpleIntegerProperty countProperty() { return count; }
+        public SimpleStringProperty typesProperty() { return types; }
+    }
+}
@@ -0,0 +1,232 @@
+package com.thefryguy.frytools.client.window;
+
+import com.thefryguy.frytools.client.scan.BlockFinderScan;
+import com.thefryguy.frytools.client.scan.BlockMatcher;
+import com.thefryguy.frytools.client.scan.ScanProgress;
+import com.thefryguy.frytools.client.scan.ScanScheduler;
+import com.thefryguy.frytools.client.scan.TimeSlicedScan;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds arbitrary blocks or block tags around the player using palette-pruned section scans.
+ */
+public class BlockFinderPanel {
+    // Stop streaming rows into the table past this many matches.
+    private static final int MAX_RESULTS = 10_000;
+    private static final Map<String, String> PRESETS = new LinkedHashMap<>();
+
+    static {
+        PRESETS.put("Spawners", "minecraft:spawner, minecraft:trial_spawner");
+        PRESETS.put("Hoppers", "minecraft:hopper");
+        PRESETS.put("Portals", "#minecraft:portals");
+        PRESETS.put("Command Blocks", "minecraft:command_block, minecraft:chain_command_block, minecraft:repeating_command_block");
+    }
+
+    private final MinecraftClient client = MinecraftClient.getInstance();
+    private final ObservableList<BlockEntry> results = FXCollections.observableArrayList();
+    private final TableView<BlockEntry> resultTable = new TableView<>();
+    private final TextField queryField = new TextField();
+    private final Spinner<Integer> radiusSpinner = new Spinner<>(1, 64, 32);
+    private final ProgressBar progressBar = new ProgressBar(0);
+    private final Button cancelButton = createClassicButton("Cancel");
+    private final Label statusLabel = new Label("Ready");
+    private BlockFinderScan activeScan;
+
+    /**
+     * Build and return the panel containing the block finder UI.
+     */
+    public VBox createBlockFinderPanel() {
+        VBox layout = new VBox(5);
+        layout.setPadding(new Insets(10));
+        layout.setStyle("-fx-background-color: #C0C0C0;");
+
+        Label titleLabel = new Label("Block Finder");
+        titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
+
+        // Query row: block ids or #tags, a preset picker and the chunk radius.
+        queryField.setPromptText("Blocks or #tags, e.g. spawner, hopper, #portals");
+        queryField.setPrefWidth(300);
+        styleTextField(queryField);
+        queryField.setOnAction(e -> startScan());
+
+        ComboBox<String> presetBox = new ComboBox<>(FXCollections.observableArrayList(PRESETS.keySet()));
+        presetBox.setPromptText("Presets");
+        presetBox.setOnAction(e -> {
+            String preset = presetBox.getValue();
+            if (preset != null) queryField.setText(PRESETS.get(preset));
+        });
+
+        radiusSpinner.setPrefWidth(70);
+        radiusSpinner.setEditable(true);
+
+        HBox queryPanel = new HBox(5, queryField, presetBox, new Label("Radius (chunks):"), radiusSpinner);
+
+        Button findButton = createClassicButton("Find");
+        findButton.setOnAction(e -> startScan());
+        cancelButton.setDisable(true);
+        cancelButton.setOnAction(e -> cancelScan());
+        progressBar.setPrefWidth(150);
+        HBox buttonPanel = new HBox(5, findButton, cancelButton, progressBar);
+
+        setupTable();
+
+        statusLabel.setStyle("-fx-text-fill: #000000;");
+        layout.getChildren().addAll(titleLabel, queryPanel, buttonPanel, resultTable, statusLabel);
+        return layout;
+    }
+
+    private void setupTable() {
+        resultTable.setPlaceholder(new Label("No blocks found yet"));
+        resultTable.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px; " +
+                        "-fx-background-color: white;"
+        );
+
+        TableColumn<BlockEntry, String> blockCol = new TableColumn<>("Block");
+        blockCol.setCellValueFactory(cellData -> cellData.getValue().blockProperty());
+        blockCol.setPrefWidth(250);
+
+        TableColumn<BlockEntry, String> posCol = new TableColumn<>("Position");
+        posCol.setCellValueFactory(cellData -> cellData.getValue().positionProperty());
+        posCol.setPrefWidth(200);
+
+        TableColumn<BlockEntry, Number> distanceCol = new TableColumn<>("Distance");
+        distanceCol.setCellValueFactory(cellData -> cellData.getValue().distanceProperty());
+        distanceCol.setPrefWidth(100);
+
+        resultTable.getColumns().addAll(blockCol, posCol, distanceCol);
+        resultTable.setItems(results);
+    }
+
+    private void startScan() {
+        if (client.world == null || client.player == null) {
+            statusLabel.setText("Join a world first.");
+            return;
+        }
+
+        BlockMatcher matcher;
+        try {
+            matcher = BlockMatcher.parse(queryField.getText());
+        } catch (IllegalArgumentException e) {
+            statusLabel.setText(e.getMessage());
+            return;
+        }
+
+        cancelScan();
+        results.clear();
+
+        BlockPos playerPos = client.player.getBlockPos();
+        long[] chunks = TimeSlicedScan.chunksNearestFirst(
+                ChunkSectionPos.getSectionCoord(playerPos.getX()),
+                ChunkSectionPos.getSectionCoord(playerPos.getZ()),
+                radiusSpinner.getValue());
+
+        BlockFinderScan scan = new BlockFinderScan(client.world, chunks, matcher, playerPos, MAX_RESULTS,
+                matches -> {
+                    List<BlockEntry> entries = new ArrayList<>(matches.size());
+                    for (BlockFinderScan.BlockMatch match : matches) entries.add(new BlockEntry(match));
+                    Platform.runLater(() -> results.addAll(entries));
+                });
+        scan.setProgressListener(progress -> {
+            int checked = scan.getSectionsChecked();
+            int scanned = scan.getSectionsScanned();
+            boolean limited = scan.isResultLimitReached();
+            Platform.runLater(() -> showProgress(scan, progress, checked, scanned, limited));
+        });
+
+        activeScan = scan;
+        cancelButton.setDisable(false);
+        progressBar.setProgress(0);
+        statusLabel.setText("Searching " + chunks.length + " chunks for " + matcher + "...");
+        ScanScheduler.getInstance().submit(scan);
+    }
+
+    private void showProgress(BlockFinderScan scan, ScanProgress progress, int sectionsChecked, int sectionsScanned,
+                              boolean limited) {
+        if (scan != activeScan) return;
+        progressBar.setProgress(progress.getFraction());
+        if (!progress.isDone()) {
+            statusLabel.setText(String.format("Searching... %d/%d chunks, %d found",
+                    progress.getCompletedUnits(), progress.getTotalUnits(), results.size()));
+            return;
+        }
+
+        activeScan = null;
+        cancelButton.setDisable(true);
+        String outcome = limited ? "Stopped at " + MAX_RESULTS + " results"
+                : progress.isCancelled() ? "Cancelled" : "Done";
+        statusLabel.setText(String.format("%s: %d found, %d/%d sections scanned after palette check (%s)",
+                outcome, results.size(), sectionsScanned, sectionsChecked, progress.describeTiming()));
+    }
+
+    private void cancelScan() {
+        if (activeScan != null) activeScan.cancel();
+    }
+
+    private void styleTextField(TextField field) {
+        field.setStyle(
+                "-fx-background-color: white; " +
+                        "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px;"
+        );
+    }
+
+    private Button createClassicButton(String text) {
+        Button btn = new Button(text);
+        btn.setStyle(
+                "-fx-base: #C0C0C0; " +
+                        "-fx-font-family: 'MS Sans Serif'; " +
+                        "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px;"
+        );
+        return btn;
+    }
+
+    /**
+     * Table row for one matching block.
+     */
+    public static class BlockEntry {
+        private final SimpleStringProperty block;
+        private final SimpleStringProperty position;
+        private final SimpleDoubleProperty distance;
+
+        public BlockEntry(BlockFinderScan.BlockMatch match) {
+            BlockPos pos = BlockPos.fromLong(match.getPackedPos());
+            this.block = new SimpleStringProperty(Registries.BLOCK.getId(match.getBlock()).toString());
+            this.position = new SimpleStringProperty(String.format("(%d, %d, %d)", pos.getX(), pos.getY(), pos.getZ()));
+            this.distance = new SimpleDoubleProperty(Math.round(match.getDistance() * 10) / 10.0);
+        }
+
+        public String getBlock() { return block.get(); }
+        public String getPosition() { return position.get(); }
+        public double getDistance() { return distance.get(); }
+        public SimpleStringProperty blockProperty() { return block; }
+        public SimpleStringProperty positionProperty() { return position; }
+        public SimpleDoubleProperty distanceProperty() { return distance; }
+    }
+}
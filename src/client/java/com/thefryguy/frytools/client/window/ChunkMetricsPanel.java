@@ -0,0 +1,155 @@
+package com.thefryguy.frytools.client.window;
+
+import com.thefryguy.frytools.client.perf.ChunkMetrics;
+import com.thefryguy.frytools.client.perf.ChunkStats;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Chunk streaming metrics: loaded chunks, chunks received, pending rebuilds and the fully
+ * loaded radius over the last ten minutes, plus how long recent teleports took to load.
+ */
+public class ChunkMetricsPanel extends VBox {
+    private static final double CHART_WIDTH = 560;
+    private static final double CHART_HEIGHT = 60;
+
+    private final Label loadedValue = createValueLabel();
+    private final Label receivedValue = createValueLabel();
+    private final Label pendingValue = createValueLabel();
+    private final Label radiusValue = createValueLabel();
+    private final Label teleportValue = createValueLabel();
+    private final Canvas loadedChart = new Canvas(CHART_WIDTH, CHART_HEIGHT);
+    private final Canvas receivedChart = new Canvas(CHART_WIDTH, CHART_HEIGHT);
+    private final Canvas pendingChart = new Canvas(CHART_WIDTH, CHART_HEIGHT);
+
+    public ChunkMetricsPanel() {
+        super(8);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: #C0C0C0;");
+        setupUI();
+    }
+
+    public static Node createChunkMetricsPanel() {
+        return new ChunkMetricsPanel();
+    }
+
+    private void setupUI() {
+        Label titleLabel = new Label("Chunk Loading");
+        titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
+
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(6);
+        addRow(grid, 0, "Loaded chunks:", loadedValue);
+        addRow(grid, 1, "Received:", receivedValue);
+        addRow(grid, 2, "Pending rebuilds:", pendingValue);
+        addRow(grid, 3, "Loaded radius:", radiusValue);
+        addRow(grid, 4, "Teleport load times:", teleportValue);
+
+        getChildren().addAll(titleLabel, grid,
+                chartLabel("Loaded chunks (10 min)"), loadedChart,
+                chartLabel("Chunks received per second"), receivedChart,
+                chartLabel("Pending chunk rebuilds"), pendingChart);
+
+        Timeline refresh = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateMetrics()));
+        refresh.setCycleCount(Timeline.INDEFINITE);
+        refresh.play();
+    }
+
+    private static Label createValueLabel() {
+        Label label = new Label("-");
+        label.setStyle("-fx-font-family: 'MS Sans Serif'; " +
+                "-fx-font-size: 12px; " +
+                "-fx-background-color: #FFFFFF; " +
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                "-fx-border-width: 1px;");
+        return label;
+    }
+
+    private static void addRow(GridPane grid, int rowIndex, String labelText, Label valueLabel) {
+        Label label = new Label(labelText);
+        label.setStyle("-fx-font-weight: bold;");
+        grid.add(label, 0, rowIndex);
+        grid.add(valueLabel, 1, rowIndex);
+    }
+
+    private static Label chartLabel(String text) {
+        Label label = new Label(text);
+        label.setStyle("-fx-font-weight: bold; -fx-padding: 4 0 0 0;");
+        return label;
+    }
+
+    private void updateMetrics() {
+        SnapshotService.getInstance().request(SnapshotService.CHUNKS, this::showMetrics);
+    }
+
+    private void showMetrics(ChunkStats stats) {
+        int last = stats.size() - 1;
+        if (last >= 0) {
+            loadedValue.setText(String.valueOf(stats.getLoadedChunks(last)));
+            receivedValue.setText(stats.getReceivedPerSecond(last) + " chunks/s");
+            pendingValue.setText(String.valueOf(stats.getPendingRebuilds(last)));
+            int radius = stats.getLoadedRadius(last);
+            radiusValue.setText((radius < 0 ? "own chunk missing" : radius + " chunks")
+                    + " of render distance " + stats.getRenderDistance());
+        }
+
+        StringBuilder teleports = new StringBuilder();
+        if (stats.getCurrentTeleportNanos() >= 0) {
+            teleports.append(String.format("loading for %.2f s", stats.getCurrentTeleportNanos() / 1_000_000_000.0));
+        }
+        for (int i = 0; i < stats.getTeleportCount() && i < 8; i++) {
+            if (teleports.length() > 0) teleports.append(", ");
+            teleports.append(String.format("%.2f s", stats.getTeleportLoadNanos(i) / 1_000_000_000.0));
+        }
+        teleportValue.setText(teleports.length() == 0 ? "No teleports yet"
+                : teleports + " (until " + ChunkMetrics.TELEPORT_LOADED_RADIUS + " rings loaded)");
+
+        drawChart(loadedChart, stats.size(), stats::getLoadedChunks, Color.web("#000080"));
+        drawChart(receivedChart, stats.size(), stats::getReceivedPerSecond, Color.web("#008000"));
+        drawChart(pendingChart, stats.size(), stats::getPendingRebuilds, Color.web("#C00000"));
+    }
+
+    /**
+     * Draws the series right-aligned on a fixed ten-minute axis, scaled to its own maximum.
+     */
+    private static void drawChart(Canvas canvas, int size, IntUnaryOperator values, Color color) {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        double w = canvas.getWidth();
+        double h = canvas.getHeight();
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, w, h);
+        g.setStroke(Color.web("#808080"));
+        g.strokeRect(0.5, 0.5, w - 1, h - 1);
+        if (size < 2) return;
+
+        int max = 1;
+        for (int i = 0; i < size; i++) max = Math.max(max, values.applyAsInt(i));
+        double step = (w - 2) / (ChunkMetrics.CAPACITY - 1);
+        double startX = w - 1 - (size - 1) * step;
+
+        g.setStroke(color);
+        g.beginPath();
+        for (int i = 0; i < size; i++) {
+            double x = startX + i * step;
+            double y = h - 2 - values.applyAsInt(i) / (double) max * (h - 4);
+            if (i == 0) g.moveTo(x, y);
+            else g.lineTo(x, y);
+        }
+        g.stroke();
+        g.setFill(Color.BLACK);
+        g.fillText("max " + max, 4, 12);
+    }
+}
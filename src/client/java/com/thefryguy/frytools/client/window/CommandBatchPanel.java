@@ -0,0 +1,240 @@
+package com.thefryguy.frytools.client.window;
+
+import com.thefryguy.frytools.client.command.CommandBatchRunner;
+import com.thefryguy.frytools.client.command.CommandBatchStats;
+import com.thefryguy.frytools.client.command.CommandResult;
+import com.thefryguy.frytools.client.scan.ScanScheduler;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Queues pasted or file-loaded commands for the batch runner and shows each command's status,
+ * latency and chat feedback, plus the runner's throughput.
+ */
+public class CommandBatchPanel extends VBox {
+    private final TextArea commandArea = new TextArea();
+    private final Spinner<Double> rateSpinner = new Spinner<>(0.1, 50.0, CommandBatchRunner.DEFAULT_RATE, 0.1);
+    private final Spinner<Integer> burstSpinner = new Spinner<>(1, 100, CommandBatchRunner.DEFAULT_BURST);
+    private final Spinner<Integer> inFlightSpinner = new Spinner<>(1, 20, CommandBatchRunner.DEFAULT_IN_FLIGHT);
+    private final Button runButton = createButton("Start");
+    private final ObservableList<ResultRow> rows = FXCollections.observableArrayList();
+    private final Label statsLabel = new Label("Nothing queued");
+    private boolean running;
+
+    public CommandBatchPanel() {
+        super(10);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: #C0C0C0;");
+        setupUI();
+    }
+
+    public static Node createCommandBatchPanel() {
+        return new CommandBatchPanel();
+    }
+
+    private void setupUI() {
+        Label titleLabel = new Label("Batch Runner");
+        titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
+
+        commandArea.setPromptText("One command per line, with or without the leading /. Lines starting with # are skipped.");
+        commandArea.setPrefRowCount(5);
+        commandArea.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px;"
+        );
+
+        Button queueButton = createButton("Queue");
+        queueButton.setOnAction(e -> queuePasted());
+        Button loadButton = createButton("Load File...");
+        loadButton.setOnAction(e -> loadFile());
+        runButton.setOnAction(e -> {
+            if (running) CommandBatchRunner.getInstance().pause();
+            else CommandBatchRunner.getInstance().resume();
+        });
+        Button clearButton = createButton("Clear");
+        clearButton.setOnAction(e -> CommandBatchRunner.getInstance().clear());
+        HBox buttons = new HBox(5, queueButton, loadButton, runButton, clearButton);
+
+        for (Spinner<?> spinner : List.of(rateSpinner, burstSpinner, inFlightSpinner)) {
+            spinner.setEditable(true);
+            spinner.setPrefWidth(75);
+            spinner.valueProperty().addListener((obs, old, newVal) -> configure());
+        }
+        HBox settings = new HBox(10, new Label("Rate (cmds/s):"), rateSpinner, new Label("Burst:"), burstSpinner,
+                new Label("In flight:"), inFlightSpinner);
+
+        statsLabel.setStyle("-fx-text-fill: #000000;");
+        getChildren().addAll(titleLabel, commandArea, buttons, settings, createResultTable(), statsLabel);
+
+        Timeline refresh = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateResults()));
+        refresh.setCycleCount(Timeline.INDEFINITE);
+        refresh.play();
+    }
+
+    private TableView<ResultRow> createResultTable() {
+        TableView<ResultRow> table = new TableView<>(rows);
+        table.setPlaceholder(new Label("No commands queued"));
+        table.setPrefHeight(300);
+        table.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px; " +
+                        "-fx-background-color: white;"
+        );
+
+        TableColumn<ResultRow, Number> numberCol = new TableColumn<>("#");
+        numberCol.setCellValueFactory(cellData -> cellData.getValue().numberProperty());
+        numberCol.setPrefWidth(45);
+
+        TableColumn<ResultRow, String> commandCol = new TableColumn<>("Command");
+        commandCol.setCellValueFactory(cellData -> cellData.getValue().commandProperty());
+        commandCol.setPrefWidth(220);
+
+        TableColumn<ResultRow, String> statusCol = new TableColumn<>("Status");
+        statusCol.setCellValueFactory(cellData -> cellData.getValue().statusProperty());
+        statusCol.setPrefWidth(85);
+
+        TableColumn<ResultRow, String> latencyCol = new TableColumn<>("Latency");
+        latencyCol.setCellValueFactory(cellData -> cellData.getValue().latencyProperty());
+        latencyCol.setPrefWidth(65);
+
+        TableColumn<ResultRow, String> feedbackCol = new TableColumn<>("Feedback");
+        feedbackCol.setCellValueFactory(cellData -> cellData.getValue().feedbackProperty());
+        feedbackCol.setPrefWidth(300);
+
+        table.getColumns().addAll(numberCol, commandCol, statusCol, latencyCol, feedbackCol);
+        return table;
+    }
+
+    private Button createButton(String text) {
+        Button button = new Button(text);
+        button.setStyle("-fx-background-color: #C0C0C0; " +
+                "-fx-border-color: #FFFFFF #808080 #808080 #FFFFFF; " +
+                "-fx-border-width: 2px; " +
+                "-fx-font-family: 'MS Sans Serif'; " +
+                "-fx-font-size: 12px; " +
+                "-fx-padding: 3 8 3 8;");
+        return button;
+    }
+
+    private void configure() {
+        CommandBatchRunner.getInstance().configure(rateSpinner.getValue(), burstSpinner.getValue(), inFlightSpinner.getValue());
+    }
+
+    private void queuePasted() {
+        List<String> lines = Arrays.asList(commandArea.getText().split("\\R"));
+        CommandBatchRunner.getInstance().enqueue(lines);
+        commandArea.clear();
+    }
+
+    /**
+     * Read the file on a scan worker and hand the lines straight to the runner, so large files
+     * never pass through the text area.
+     */
+    private void loadFile() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Load Commands");
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Text Files", "*.txt", "*.mcfunction"),
+                new FileChooser.ExtensionFilter("All Files", "*.*")
+        );
+        File file = fileChooser.showOpenDialog(getScene().getWindow());
+        if (file == null) return;
+
+        statsLabel.setText("Loading " + file.getName() + "...");
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ScanScheduler.getInstance()::execute).whenComplete((lines, error) -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                cause.printStackTrace();
+                Platform.runLater(() -> statsLabel.setText("Loading failed: " + cause.getMessage()));
+                return;
+            }
+            CommandBatchRunner.getInstance().enqueue(lines);
+        });
+    }
+
+    private void updateResults() {
+        SnapshotService.getInstance().request(SnapshotService.COMMAND_BATCH, this::showResults);
+    }
+
+    private void showResults(CommandBatchStats stats) {
+        running = stats.isRunning();
+        runButton.setText(running ? "Pause" : stats.getSent() > 0 && stats.getSent() < stats.getResults().size() ? "Resume" : "Start");
+
+        List<CommandResult> results = stats.getResults();
+        if (rows.size() > results.size()) rows.remove(results.size(), rows.size());
+        for (int i = 0; i < results.size(); i++) {
+            if (i < rows.size()) {
+                rows.get(i).update(results.get(i));
+            } else {
+                ResultRow row = new ResultRow(i + 1);
+                row.update(results.get(i));
+                rows.add(row);
+            }
+        }
+
+        statsLabel.setText(results.isEmpty() ? "Nothing queued" : stats.describe());
+    }
+
+    public static class ResultRow {
+        private final SimpleIntegerProperty number;
+        private final SimpleStringProperty command = new SimpleStringProperty("");
+        private final SimpleStringProperty status = new SimpleStringProperty("");
+        private final SimpleStringProperty latency = new SimpleStringProperty("");
+        private final SimpleStringProperty feedback = new SimpleStringProperty("");
+        // Results are replaced on every change, so an unchanged instance needs no update.
+        private CommandResult shown;
+
+        public ResultRow(int number) {
+            this.number = new SimpleIntegerProperty(number);
+        }
+
+        void update(CommandResult result) {
+            if (result == shown) return;
+            shown = result;
+            command.set(result.getCommand());
+            status.set(result.getStatus().name().toLowerCase(Locale.ROOT).replace('_', ' '));
+            latency.set(result.hasFeedback() ? String.format("%.0f ms", result.getLatencyNanos() / 1_000_000.0) : "");
+            feedback.set(result.getFeedback());
+        }
+
+        public SimpleIntegerProperty numberProperty() { return number; }
+        public SimpleStringProperty commandProperty() { return command; }
+        public SimpleStringProperty statusProperty() { return status; }
+        public SimpleStringProperty latencyProperty() { return latency; }
+        public SimpleStringProperty feedbackProperty() { return feedback; }
+    }
+}
@@ -1,5 +1,14 @@
 package com.thefryguy.frytools.client.window;
 
+import com.thefryguy.frytools.client.ServerIdentity;
+import com.thefryguy.frytools.client.command.CommandCache;
+import com.thefryguy.frytools.client.command.CommandDiff;
+import com.thefryguy.frytools.client.command.CommandPath;
+import com.thefryguy.frytools.client.command.CommandSearchIndex;
+import com.thefryguy.frytools.client.command.CommandTreeFlattener;
+import com.thefryguy.frytools.client.snapshot.CommandTreeSnapshot;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -7,90 +16,130 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
+import javafx.util.Duration;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.command.CommandSource;
-import com.mojang.brigadier.tree.CommandNode;
-import com.mojang.brigadier.tree.RootCommandNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 public class CommandScannerPanel {
+    // Delay between the last keystroke and the search, so fast typing only searches once.
+    private static final Duration SEARCH_DELAY = Duration.millis(120);
+    private static final String CHANGE_ADDED = "added";
+    private static final String CHANGE_REMOVED = "removed";
+
     private final ObservableList<CommandEntry> commands = FXCollections.observableArrayList();
+    private final ObservableList<CommandEntry> visibleCommands = FXCollections.observableArrayList();
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
+    private CommandSearchIndex searchIndex = CommandSearchIndex.build(List.of());
+    // Commands gone since the last visit; not part of the search index.
+    private List<CommandEntry> removedCommands = List.of();
+    private String serverName;
+    // Whether the live tree replaced the cached list since joining.
+    private boolean liveShown;
+    private String summary = "Ready";
     private final TableView<CommandEntry> commandTable = new TableView<>();
     private final TextField searchField = new TextField();
     private final Label statusLabel = new Label("Ready");
 
     public CommandScannerPanel() {
-        // When joining a server, clear the UI and automatically refresh the command list.
+        // When joining a server, show the commands cached from the last visit until the live tree arrives.
         ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> {
-            resetUI();
-            Platform.runLater(() -> statusLabel.setText("Connected - Retrieving command data..."));
-            refreshCommands();
+            String server = ServerIdentity.currentServerName(client);
+            Platform.runLater(() -> {
+                resetUI();
+                serverName = server;
+                statusLabel.setText("Connected - Loading cached commands...");
+                CommandCache.getInstance().load(server)
+                        .whenComplete((index, error) -> Platform.runLater(() -> showCached(server, index, error)));
+                refreshCommands();
+            });
         });
+        CommandTreeFlattener.getInstance().addListener(dispatcher -> Platform.runLater(this::refreshCommands));
     }
 
     /**
      * Refresh the list of available commands by querying the client's command dispatcher.
      */
     private void refreshCommands() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.player != null && client.getNetworkHandler() != null) {
-            statusLabel.setText("Refreshing...");
-            // Execute on the client thread to safely access the network handler.
-            client.execute(() -> {
-                try {
-                    // Get the command dispatcher's root node from the network handler.
-                    RootCommandNode<CommandSource> rootNode = client.getNetworkHandler().getCommandDispatcher().getRoot();
-                    Platform.runLater(() -> {
-                        commands.clear();
-                        parseCommandTree(rootNode);
-                        statusLabel.setText("Loaded " + commands.size() + " commands");
-                    });
-                } catch (Exception e) {
-                    Platform.runLater(() -> statusLabel.setText("Error retrieving command tree: " + e.getMessage()));
-                    e.printStackTrace();
-                }
-            });
-        } else {
-            statusLabel.setText("Player or network handler is not available.");
-        }
+        if (!liveShown) statusLabel.setText("Refreshing...");
+        // The snapshot service reads the dispatcher on the client thread; flattening runs off both threads.
+        SnapshotService.getInstance().request(SnapshotService.COMMANDS, this::showCommandTree);
     }
 
-    /**
-     * Recursively parse the command tree starting from the root node.
-     */
-    private void parseCommandTree(RootCommandNode<CommandSource> rootNode) {
-        try {
-            rootNode.getChildren().forEach(node -> parseNode(node, ""));
-        } catch (Exception e) {
-            Platform.runLater(() -> statusLabel.setText("Error: " + e.getMessage()));
-        }
+    private void showCommandTree(CommandTreeSnapshot snapshot) {
+        String server = snapshot.getServerName();
+        CommandTreeFlattener.getInstance().flatten(snapshot.getDispatcher()).whenComplete((index, error) -> {
+            if (error != null) {
+                Platform.runLater(() -> showError(error));
+            } else if (index.size() == 0) {
+                // The dispatcher stays empty until the server sends its tree, shortly after joining.
+                Platform.runLater(() -> {
+                    if (!liveShown) statusLabel.setText(summary + " - waiting for the server's command tree...");
+                });
+            } else {
+                CommandCache.getInstance().update(server, index.getPaths())
+                        .whenComplete((diff, diffError) -> Platform.runLater(() -> {
+                            if (diffError != null) showError(diffError);
+                            showLive(server, index, diff);
+                        }));
+            }
+        });
     }
 
-    /**
-     * Recursively parse each node and add the command (with syntax) to the list.
-     */
-    private void parseNode(CommandNode<CommandSource> node, String prefix) {
-        String fullCommand = prefix + node.getName();
-
-        if (node.getCommand() != null) {
-            commands.add(new CommandEntry(
-                    fullCommand,
-                    "/" + fullCommand + buildArguments(node)
-            ));
+    private void showCached(String server, CommandSearchIndex index, Throwable error) {
+        if (!server.equals(serverName) || liveShown) return;
+        if (error != null) {
+            showError(error);
+            return;
+        }
+        if (index.size() == 0) {
+            summary = "No cached commands for this server";
+            statusLabel.setText(summary + " - waiting for the server's command tree...");
+            return;
         }
+        summary = "Showing " + index.size() + " cached commands - checking the live tree...";
+        showEntries(index, null);
+    }
 
-        node.getChildren().forEach(child -> parseNode(child, fullCommand + " "));
+    private void showLive(String server, CommandSearchIndex index, CommandDiff diff) {
+        if (serverName != null && !server.equals(serverName)) return;
+        serverName = server;
+        liveShown = true;
+        if (diff == null || !diff.hadPrevious()) {
+            summary = "Loaded " + index.size() + " commands";
+        } else if (diff.getAddedCount() == 0 && diff.getRemoved().isEmpty()) {
+            summary = "Loaded " + index.size() + " commands - unchanged since last visit";
+        } else {
+            summary = String.format("Loaded %d commands - %d added, %d removed since last visit",
+                    index.size(), diff.getAddedCount(), diff.getRemoved().size());
+        }
+        showEntries(index, diff);
     }
 
-    /**
-     * Build a simple representation of the command arguments.
-     */
-    private String buildArguments(CommandNode<CommandSource> node) {
-        if (node.getRedirect() != null) {
-            return " -> " + node.getRedirect().getName();
+    private void showEntries(CommandSearchIndex index, CommandDiff diff) {
+        boolean compare = diff != null && diff.hadPrevious();
+        List<CommandEntry> entries = new ArrayList<>(index.size());
+        for (CommandPath path : index.getPaths()) {
+            entries.add(new CommandEntry(path.getName(), "/" + path.getSyntax(),
+                    compare && diff.isAdded(path) ? CHANGE_ADDED : ""));
         }
-        // This is a simple fallback; for a more detailed argument list you might need to inspect the node further.
-        return node.getRequirement() != null ? " <args>" : "";
+        List<CommandEntry> removed = new ArrayList<>();
+        if (compare) {
+            for (CommandPath path : diff.getRemoved()) {
+                removed.add(new CommandEntry(path.getName(), "/" + path.getSyntax(), CHANGE_REMOVED));
+            }
+        }
+        commands.setAll(entries);
+        removedCommands = removed;
+        searchIndex = index;
+        filterCommands(searchField.getText());
+    }
+
+    private void showError(Throwable error) {
+        error.printStackTrace();
+        statusLabel.setText("Error: " + error.getMessage());
     }
 
     private void styleTextField(TextField field) {
@@ -113,29 +162,37 @@ public class CommandScannerPanel {
     }
 
     /**
-     * Filter commands based on the text in the search field.
+     * Show the commands matching the search field, best match first. Removed commands stay on top.
      */
     private void filterCommands(String filter) {
-        if (filter.isEmpty()) {
-            commandTable.setItems(commands);
-            return;
+        long start = System.nanoTime();
+        int[] matches = searchIndex.search(filter);
+        String lowerFilter = filter.toLowerCase(Locale.ROOT).trim();
+        List<CommandEntry> filtered = new ArrayList<>(matches.length + removedCommands.size());
+        // Usually only a handful, so they are checked directly.
+        for (CommandEntry entry : removedCommands) {
+            if (entry.getSyntax().toLowerCase(Locale.ROOT).contains(lowerFilter)) filtered.add(entry);
         }
+        for (int id : matches) filtered.add(commands.get(id));
+        visibleCommands.setAll(filtered);
 
-        ObservableList<CommandEntry> filtered = FXCollections.observableArrayList();
-        String lowerFilter = filter.toLowerCase();
-
-        for (CommandEntry entry : commands) {
-            if (entry.getName().toLowerCase().contains(lowerFilter) ||
-                    entry.getSyntax().toLowerCase().contains(lowerFilter)) {
-                filtered.add(entry);
-            }
+        if (lowerFilter.isEmpty()) {
+            statusLabel.setText(summary);
+        } else {
+            statusLabel.setText(String.format("%d of %d commands match (%.2f ms)",
+                    filtered.size(), commands.size() + removedCommands.size(),
+                    (System.nanoTime() - start) / 1_000_000.0));
         }
-        commandTable.setItems(filtered);
     }
 
     private void resetUI() {
         commands.clear();
-        statusLabel.setText("Ready");
+        visibleCommands.clear();
+        removedCommands = List.of();
+        searchIndex = CommandSearchIndex.build(List.of());
+        liveShown = false;
+        summary = "Ready";
+        statusLabel.setText(summary);
     }
 
     /**
@@ -151,7 +208,8 @@ public class CommandScannerPanel {
         searchField.setPromptText("Search commands...");
         searchField.setPrefWidth(250);
         styleTextField(searchField);
-        searchField.textProperty().addListener((obs, old, newVal) -> filterCommands(newVal));
+        searchDelay.setOnFinished(e -> filterCommands(searchField.getText()));
+        searchField.textProperty().addListener((obs, old, newVal) -> searchDelay.playFromStart());
 
         Button refreshBtn = createClassicButton("↻");
         refreshBtn.setOnAction(e -> refreshCommands());
@@ -187,25 +245,47 @@ public class CommandScannerPanel {
         syntaxCol.setCellValueFactory(cellData -> cellData.getValue().syntaxProperty());
         syntaxCol.setPrefWidth(400);
 
-        commandTable.getColumns().addAll(nameCol, syntaxCol);
-        commandTable.setItems(commands);
+        TableColumn<CommandEntry, String> changeCol = new TableColumn<>("Change");
+        changeCol.setCellValueFactory(cellData -> cellData.getValue().changeProperty());
+        changeCol.setPrefWidth(70);
+
+        commandTable.getColumns().addAll(nameCol, syntaxCol, changeCol);
+        // Highlight what changed since the last visit, e.g. after a plugin update.
+        commandTable.setRowFactory(tv -> new TableRow<>() {
+            @Override
+            protected void updateItem(CommandEntry item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null || item.getChange().isEmpty()) {
+                    setStyle("");
+                } else if (item.getChange().equals(CHANGE_ADDED)) {
+                    setStyle("-fx-background-color: #C8F0C8;");
+                } else {
+                    setStyle("-fx-background-color: #F0C8C8;");
+                }
+            }
+        });
+        commandTable.setItems(visibleCommands);
     }
 
     /**
-     * Simple data class for holding a command and its syntax.
+     * Simple data class for holding a command, its syntax and whether it changed since the last visit.
      */
     public static class CommandEntry {
         private final SimpleStringProperty name;
         private final SimpleStringProperty syntax;
+        private final SimpleStringProperty change;
 
-        public CommandEntry(String name, String syntax) {
+        public CommandEntry(String name, String syntax, String change) {
             this.name = new SimpleStringProperty(name);
             this.syntax = new SimpleStringProperty(syntax);
+            this.change = new SimpleStringProperty(change);
         }
 
         public String getName() { return name.get(); }
         public String getSyntax() { return syntax.get(); }
+        public String getChange() { return change.get(); }
         public SimpleStringProperty nameProperty() { return name; }
         public SimpleStringProperty syntaxProperty() { return syntax; }
+        public SimpleStringProperty changeProperty() { return change; }
     }
 }
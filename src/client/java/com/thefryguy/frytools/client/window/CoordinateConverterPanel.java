@@ -1,21 +1,45 @@
 package com.thefryguy.frytools.client.window;
 
+import com.thefryguy.frytools.client.coords.CoordinateBatchConverter;
+import com.thefryguy.frytools.client.coords.CoordinateConverter;
+import com.thefryguy.frytools.client.coords.CoordinateSpace;
+import com.thefryguy.frytools.client.scan.ScanScheduler;
+import javafx.application.Platform;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.geometry.Insets;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
+import javafx.stage.FileChooser;
+
+import java.io.File;
 
 public class CoordinateConverterPanel {
     private final TextField chunkXField = new TextField();
+    private final TextField chunkYField = new TextField("0");
     private final TextField chunkZField = new TextField();
     private final TextField worldXField = new TextField();
     private final TextField worldYField = new TextField();
     private final TextField worldZField = new TextField();
 
-    public GridPane createCoordinateConverterPanel() {
+    // Bulk conversion
+    private final ComboBox<CoordinateSpace> fromBox = new ComboBox<>();
+    private final ComboBox<CoordinateSpace> toBox = new ComboBox<>();
+    private final TextField defaultYField = new TextField("64");
+    private final TextArea bulkInput = new TextArea();
+    private final TextArea bulkOutput = new TextArea();
+    private final Label bulkStatus = new Label("Paste coordinates or convert a file");
+    private boolean bulkRunning;
+
+    public VBox createCoordinateConverterPanel() {
+        VBox layout = new VBox(10, createSinglePanel(), new Separator(), createBulkPanel());
+        layout.setPadding(new Insets(10));
+        layout.setStyle("-fx-background-color: #C0C0C0;");
+        return layout;
+    }
+
+    private GridPane createSinglePanel() {
         GridPane grid = new GridPane();
-        grid.setPadding(new Insets(10));
         grid.setHgap(10);
         grid.setVgap(5);
         grid.setStyle("-fx-background-color: #C0C0C0;");
@@ -26,18 +50,20 @@ public class CoordinateConverterPanel {
         grid.add(chunkXField, 1, 1);
         grid.add(new Label("Z:"), 0, 2);
         grid.add(chunkZField, 1, 2);
+        grid.add(new Label("Block Y:"), 0, 3);
+        grid.add(chunkYField, 1, 3);
 
         // Convert Button
         Button convertButton = new Button("Convert");
         convertButton.setStyle("-fx-base: #A0A0A0;");
         convertButton.setOnAction(e -> convertCoordinates());
-        grid.add(convertButton, 0, 3, 2, 1);
+        grid.add(convertButton, 0, 4, 2, 1);
 
         // Copy XYZ Button
         Button copyXYZButton = new Button("Copy XYZ");
         copyXYZButton.setStyle("-fx-base: #A0A0A0;");
         copyXYZButton.setOnAction(e -> copyAllToClipboard());
-        grid.add(copyXYZButton, 0, 4, 2, 1);
+        grid.add(copyXYZButton, 0, 5, 2, 1);
 
         // World Coordinates Column
         grid.add(new Label("World Coords:"), 2, 0);
@@ -64,26 +90,149 @@ public class CoordinateConverterPanel {
         worldXField.setEditable(false);
         worldYField.setEditable(false);
         worldZField.setEditable(false);
-        worldYField.setText("0"); // Default Y to 0
 
         return grid;
     }
 
+    private VBox createBulkPanel() {
+        fromBox.getItems().addAll(CoordinateSpace.values());
+        fromBox.setValue(CoordinateSpace.WORLD);
+        toBox.getItems().addAll(CoordinateSpace.values());
+        toBox.setValue(CoordinateSpace.CHUNK);
+        defaultYField.setPrefWidth(60);
+
+        Button convertPastedButton = new Button("Convert Pasted");
+        convertPastedButton.setStyle("-fx-base: #A0A0A0;");
+        convertPastedButton.setOnAction(e -> convertPasted());
+        Button convertFileButton = new Button("Convert File...");
+        convertFileButton.setStyle("-fx-base: #A0A0A0;");
+        convertFileButton.setOnAction(e -> convertFile());
+        Button copyOutputButton = new Button("Copy");
+        copyOutputButton.setStyle("-fx-base: #A0A0A0;");
+        copyOutputButton.setOnAction(e -> copyToClipboard(bulkOutput.getText()));
+
+        HBox controls = new HBox(5, new Label("From:"), fromBox, new Label("To:"), toBox,
+                new Label("Default Y:"), defaultYField, convertPastedButton, convertFileButton, copyOutputButton);
+
+        bulkInput.setPromptText("One coordinate per line, e.g. 120 64 -35, x=120 z=-35 or r.-1.2.mca");
+        bulkOutput.setEditable(false);
+        bulkInput.setPrefRowCount(8);
+        bulkOutput.setPrefRowCount(8);
+        HBox.setHgrow(bulkInput, Priority.ALWAYS);
+        HBox.setHgrow(bulkOutput, Priority.ALWAYS);
+
+        return new VBox(5, new Label("Bulk Conversion:"), controls, new HBox(5, bulkInput, bulkOutput), bulkStatus);
+    }
+
     private void convertCoordinates() {
+        int[] x = new int[1];
+        int[] y = new int[1];
+        int[] z = new int[1];
+        byte[] status = new byte[1];
         try {
-            int chunkX = parseOrZero(chunkXField.getText());
-            int chunkZ = parseOrZero(chunkZField.getText());
+            x[0] = Integer.parseInt(chunkXField.getText().trim());
+            z[0] = Integer.parseInt(chunkZField.getText().trim());
+            y[0] = Integer.parseInt(chunkYField.getText().trim());
+        } catch (NumberFormatException e) {
+            setWorldFields("Invalid");
+            return;
+        }
 
-            worldXField.setText(String.valueOf(chunkX * 16));
-            worldZField.setText(String.valueOf(chunkZ * 16));
+        int[] outX = new int[1];
+        int[] outY = new int[1];
+        int[] outZ = new int[1];
+        CoordinateConverter.convert(CoordinateSpace.CHUNK, CoordinateSpace.WORLD, y[0], 1, x, y, z, status, outX, outY, outZ);
+        if (status[0] != CoordinateConverter.OK) {
+            setWorldFields("Overflow");
+            return;
+        }
+        worldXField.setText(String.valueOf(outX[0]));
+        worldYField.setText(String.valueOf(outY[0]));
+        worldZField.setText(String.valueOf(outZ[0]));
+    }
+
+    private void setWorldFields(String text) {
+        worldXField.setText(text);
+        worldYField.setText(text);
+        worldZField.setText(text);
+    }
+
+    private Integer parseDefaultY() {
+        try {
+            return Integer.parseInt(defaultYField.getText().trim());
         } catch (NumberFormatException e) {
-            worldXField.setText("Invalid");
-            worldZField.setText("Invalid");
+            bulkStatus.setText("Default Y must be a whole number");
+            return null;
         }
     }
 
-    private int parseOrZero(String input) {
-        return input.isEmpty() ? 0 : Integer.parseInt(input);
+    private void convertPasted() {
+        Integer defaultY = parseDefaultY();
+        if (defaultY == null || bulkRunning) return;
+
+        bulkRunning = true;
+        bulkStatus.setText("Converting...");
+        long start = System.nanoTime();
+        CoordinateBatchConverter.convertText(bulkInput.getText(), fromBox.getValue(), toBox.getValue(), defaultY,
+                ScanScheduler.getInstance()::execute
+        ).whenComplete((csv, error) -> Platform.runLater(() -> {
+            bulkRunning = false;
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                cause.printStackTrace();
+                bulkStatus.setText("Conversion failed: " + cause.getMessage());
+                return;
+            }
+            bulkOutput.setText(csv);
+            bulkStatus.setText(String.format("Converted in %.1f ms", (System.nanoTime() - start) / 1_000_000.0));
+        }));
+    }
+
+    /**
+     * Stream an input file to a CSV file on a scan worker; neither passes through the text areas.
+     */
+    private void convertFile() {
+        Integer defaultY = parseDefaultY();
+        if (defaultY == null || bulkRunning) return;
+
+        FileChooser openChooser = new FileChooser();
+        openChooser.setTitle("Coordinates to Convert");
+        File input = openChooser.showOpenDialog(bulkInput.getScene().getWindow());
+        if (input == null) return;
+
+        FileChooser saveChooser = new FileChooser();
+        saveChooser.setTitle("Save Converted Coordinates");
+        saveChooser.setInitialDirectory(input.getParentFile());
+        saveChooser.setInitialFileName("converted.csv");
+        saveChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV Files", "*.csv"),
+                new FileChooser.ExtensionFilter("Gzipped CSV Files", "*.csv.gz")
+        );
+        File output = saveChooser.showSaveDialog(bulkInput.getScene().getWindow());
+        if (output == null) return;
+        if (output.equals(input)) {
+            bulkStatus.setText("Choose a different output file");
+            return;
+        }
+
+        bulkRunning = true;
+        bulkStatus.setText("Converting " + input.getName() + "...");
+        CoordinateBatchConverter.convertFile(input.toPath(), output.toPath(), fromBox.getValue(), toBox.getValue(),
+                defaultY,
+                lines -> Platform.runLater(() -> bulkStatus.setText(String.format("Converting... %d lines", lines))),
+                ScanScheduler.getInstance()::execute
+        ).whenComplete((result, error) -> Platform.runLater(() -> {
+            bulkRunning = false;
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                cause.printStackTrace();
+                bulkStatus.setText("Conversion failed: " + cause.getMessage());
+                return;
+            }
+            bulkStatus.setText(String.format("Converted %d lines to %s: %d ok, %d failed, %d without coordinates (%.1f ms)",
+                    result.getLines(), output.getName(), result.getConverted(), result.getFailed(),
+                    result.getSkipped(), result.getElapsedNanos() / 1_000_000.0));
+        }));
     }
 
     private Button createCopyButton(TextField field) {
@@ -95,8 +244,9 @@ public class CoordinateConverterPanel {
 
     private void copyAllToClipboard() {
         String x = worldXField.getText();
+        String y = worldYField.getText();
         String z = worldZField.getText();
-        copyToClipboard(String.format("%s, 0, %s", x, z));
+        copyToClipboard(String.format("%s, %s, %s", x, y, z));
     }
 
     private void copyToClipboard(String content) {
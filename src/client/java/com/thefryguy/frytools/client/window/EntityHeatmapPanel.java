@@ -0,0 +1,253 @@
+package com.thefryguy.frytools.client.window;
+
+import com.thefryguy.frytools.client.entity.EntityTypeNames;
+import com.thefryguy.frytools.client.scan.ChunkDensity;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entities per chunk around the player, drawn as a heatmap next to a list of the busiest chunks.
+ * Clicking a cell or a row copies its chunk and world coordinates.
+ */
+public class EntityHeatmapPanel extends VBox {
+    private static final int CANVAS_SIZE = 330;
+    // Types listed per hot chunk in the table.
+    private static final int TYPES_PER_CHUNK = 3;
+
+    private final Canvas canvas = new Canvas(CANVAS_SIZE, CANVAS_SIZE);
+    private final Spinner<Integer> radiusSpinner = new Spinner<>(2, 64, 16, 2);
+    private final ObservableList<HotChunkRow> hotRows = FXCollections.observableArrayList();
+    private final Label hoverLabel = new Label(" ");
+    private final Label statsLabel = new Label();
+    private ChunkDensity density = ChunkDensity.EMPTY;
+
+    public EntityHeatmapPanel() {
+        super(10);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: #C0C0C0;");
+        setupUI();
+    }
+
+    public static Node createEntityHeatmapPanel() {
+        return new EntityHeatmapPanel();
+    }
+
+    private void setupUI() {
+        Label titleLabel = new Label("Entity Heatmap");
+        titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
+
+        Button refreshButton = new Button("Refresh");
+        refreshButton.setStyle(createButtonStyle());
+        refreshButton.setOnAction(e -> updateDensity());
+
+        CheckBox autoRefreshBox = new CheckBox("Auto-refresh");
+        Timeline autoRefresh = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateDensity()));
+        autoRefresh.setCycleCount(Timeline.INDEFINITE);
+        autoRefreshBox.selectedProperty().addListener((obs, old, selected) -> {
+            if (selected) autoRefresh.play();
+            else autoRefresh.stop();
+        });
+
+        radiusSpinner.setEditable(true);
+        radiusSpinner.setPrefWidth(70);
+        radiusSpinner.valueProperty().addListener((obs, old, newVal) -> drawHeatmap());
+        HBox controls = new HBox(10, refreshButton, autoRefreshBox, new Label("Radius (chunks):"), radiusSpinner);
+
+        canvas.setOnMouseMoved(this::onCanvasHover);
+        canvas.setOnMouseClicked(e -> {
+            ChunkPos chunk = chunkAt(e);
+            if (chunk != null) copyChunk(chunk.x, chunk.z);
+        });
+        VBox heatmapBox = new VBox(5, canvas, hoverLabel);
+        heatmapBox.setStyle("-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; -fx-border-width: 2px;");
+
+        TableView<HotChunkRow> hotTable = createHotTable();
+        HBox.setHgrow(hotTable, Priority.ALWAYS);
+        HBox content = new HBox(10, heatmapBox, hotTable);
+
+        statsLabel.setStyle("-fx-text-fill: #000000;");
+        getChildren().addAll(titleLabel, controls, content, statsLabel);
+
+        drawHeatmap();
+        updateDensity();
+    }
+
+    private TableView<HotChunkRow> createHotTable() {
+        TableView<HotChunkRow> table = new TableView<>(hotRows);
+        table.setPlaceholder(new Label("No entities loaded"));
+        table.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px; " +
+                        "-fx-background-color: white;"
+        );
+
+        TableColumn<HotChunkRow, String> chunkCol = new TableColumn<>("Chunk");
+        chunkCol.setCellValueFactory(cellData -> cellData.getValue().chunkProperty());
+        chunkCol.setPrefWidth(80);
+
+        TableColumn<HotChunkRow, Number> countCol = new TableColumn<>("Entities");
+        countCol.setCellValueFactory(cellData -> cellData.getValue().countProperty());
+        countCol.setPrefWidth(60);
+
+        TableColumn<HotChunkRow, String> typesCol = new TableColumn<>("Top Types");
+        typesCol.setCellValueFactory(cellData -> cellData.getValue().typesProperty());
+        typesCol.setPrefWidth(240);
+
+        table.getColumns().addAll(chunkCol, countCol, typesCol);
+        table.setRowFactory(tv -> {
+            TableRow<HotChunkRow> row = new TableRow<>();
+            row.setOnMouseClicked(e -> {
+                if (!row.isEmpty()) copyChunk(row.getItem().chunkX, row.getItem().chunkZ);
+            });
+            return row;
+        });
+        return table;
+    }
+
+    private String createButtonStyle() {
+        return "-fx-background-color: #C0C0C0; " +
+                "-fx-border-color: #FFFFFF #808080 #808080 #FFFFFF; " +
+                "-fx-border-width: 2px; " +
+                "-fx-font-family: 'MS Sans Serif'; " +
+                "-fx-font-size: 12px; " +
+                "-fx-padding: 3 8 3 8;";
+    }
+
+    public void updateDensity() {
+        SnapshotService.getInstance().request(SnapshotService.CHUNK_DENSITY, this::applyDensity);
+    }
+
+    private void applyDensity(ChunkDensity snapshot) {
+        density = snapshot;
+        List<HotChunkRow> rows = new ArrayList<>(snapshot.getHotChunkCount());
+        for (int rank = 0; rank < snapshot.getHotChunkCount(); rank++) {
+            long key = snapshot.getHotChunkKey(rank);
+            rows.add(new HotChunkRow(ChunkPos.getPackedX(key), ChunkPos.getPackedZ(key), snapshot.getHotTotal(rank),
+                    describeTypes(snapshot.getHotTypeIds(rank), snapshot.getHotTypeCounts(rank))));
+        }
+        hotRows.setAll(rows);
+        drawHeatmap();
+        statsLabel.setText(String.format("%d entities in %d chunks - aggregated in %.2f ms",
+                snapshot.getTotalEntities(), snapshot.getChunkCount(), snapshot.getCollectNanos() / 1_000_000.0));
+    }
+
+    private static String describeTypes(int[] typeIds, int[] counts) {
+        StringBuilder types = new StringBuilder();
+        for (int i = 0; i < Math.min(typeIds.length, TYPES_PER_CHUNK); i++) {
+            if (i > 0) types.append(", ");
+            types.append(EntityTypeNames.get(typeIds[i])).append(' ').append(counts[i]);
+        }
+        if (typeIds.length > TYPES_PER_CHUNK) types.append(", ...");
+        return types.toString();
+    }
+
+    /**
+     * Colours each chunk on a log scale relative to the busiest chunk in view, so a few extreme
+     * chunks don't wash out the rest. The player's chunk is outlined.
+     */
+    private void drawHeatmap() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        int radius = radiusSpinner.getValue();
+        int cells = radius * 2 + 1;
+        double cellSize = CANVAS_SIZE / (double) cells;
+        int originX = density.getCenterChunkX() - radius;
+        int originZ = density.getCenterChunkZ() - radius;
+
+        int max = 0;
+        for (int dz = 0; dz < cells; dz++) {
+            for (int dx = 0; dx < cells; dx++) max = Math.max(max, density.getTotalAt(originX + dx, originZ + dz));
+        }
+        double logMax = Math.log1p(max);
+
+        g.setFill(Color.web("#E0E0E0"));
+        g.fillRect(0, 0, CANVAS_SIZE, CANVAS_SIZE);
+        for (int dz = 0; dz < cells; dz++) {
+            for (int dx = 0; dx < cells; dx++) {
+                int count = density.getTotalAt(originX + dx, originZ + dz);
+                if (count == 0) continue;
+                double heat = Math.log1p(count) / logMax;
+                // Blue for quiet chunks through yellow to red for the busiest.
+                g.setFill(Color.hsb(240 * (1 - heat), 0.85, 0.95));
+                g.fillRect(dx * cellSize, dz * cellSize, Math.ceil(cellSize), Math.ceil(cellSize));
+            }
+        }
+        g.setStroke(Color.BLACK);
+        g.setLineWidth(1.5);
+        g.strokeRect(radius * cellSize, radius * cellSize, cellSize, cellSize);
+    }
+
+    private ChunkPos chunkAt(MouseEvent e) {
+        int radius = radiusSpinner.getValue();
+        double cellSize = CANVAS_SIZE / (double) (radius * 2 + 1);
+        int dx = (int) (e.getX() / cellSize);
+        int dz = (int) (e.getY() / cellSize);
+        if (dx < 0 || dz < 0 || dx > radius * 2 || dz > radius * 2) return null;
+        return new ChunkPos(density.getCenterChunkX() - radius + dx, density.getCenterChunkZ() - radius + dz);
+    }
+
+    private void onCanvasHover(MouseEvent e) {
+        ChunkPos chunk = chunkAt(e);
+        if (chunk == null) return;
+        hoverLabel.setText(String.format("Chunk %d, %d - %d entities", chunk.x, chunk.z, density.getTotalAt(chunk.x, chunk.z)));
+    }
+
+    private void copyChunk(int chunkX, int chunkZ) {
+        // World coordinates point at the middle of the chunk, ready for a teleport.
+        String text = String.format("Chunk %d, %d - World %d, %d", chunkX, chunkZ, (chunkX << 4) + 8, (chunkZ << 4) + 8);
+        ClipboardContent cc = new ClipboardContent();
+        cc.putString(text);
+        Clipboard.getSystemClipboard().setContent(cc);
+        hoverLabel.setText("Copied: " + text);
+    }
+
+    public static class HotChunkRow {
+        private final int chunkX;
+        private final int chunkZ;
+        private final SimpleStringProperty chunk;
+        private final SimpleIntegerProperty count;
+        private final SimpleStringProperty types;
+
+        public HotChunkRow(int chunkX, int chunkZ, int count, String types) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.chunk = new SimpleStringProperty(chunkX + ", " + chunkZ);
+            this.count = new SimpleIntegerProperty(count);
+            this.types = new SimpleStringProperty(types);
+        }
+
+        public String getChunk() { return chunk.get(); }
+        public int getCount() { return count.get(); }
+        public String getTypes() { return types.get(); }
+        public SimpleStringProperty chunkProperty() { return chunk; }
+        public SimpleIntegerProperty countProperty() { return count; }
+        public SimpleStringProperty typesProperty() { return types; }
+    }
+}
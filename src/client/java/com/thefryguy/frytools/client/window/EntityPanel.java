@@ -1,31 +1,61 @@
 package com.thefryguy.frytools.client.window;
 
-import javafx.application.Platform;
+import com.thefryguy.frytools.client.entity.EntityHistory;
+import com.thefryguy.frytools.client.entity.EntitySnapshot;
+import com.thefryguy.frytools.client.entity.EntityTypeNames;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
-import javafx.scene.layout.GridPane;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.entity.Entity;
-import net.minecraft.util.math.BlockPos;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 
 public class EntityPanel extends VBox {
-    private final MinecraftClient client;
-    private GridPane entityGrid;
-    private GridPane totalsGrid;
-    private final Map<String, Integer> entityCounts = new HashMap<>();
+    private final SnapshotService snapshots = SnapshotService.getInstance();
+    // Extractors turn in-place property changes into list updates, so the sorted views stay ordered.
+    private final ObservableList<EntityRow> entityRows =
+            FXCollections.observableArrayList(row -> new Observable[]{row.positionProperty()});
+    private final ObservableList<TotalRow> totalRows =
+            FXCollections.observableArrayList(row -> new Observable[]{row.countProperty()});
+    // Rows currently shown, keyed by entity id and raw type id, so a refresh only touches what changed.
+    private final Int2ObjectOpenHashMap<EntityRow> entityRowsById = new Int2ObjectOpenHashMap<>();
+    private final Int2ObjectOpenHashMap<TotalRow> totalRowsByType = new Int2ObjectOpenHashMap<>();
+    private int updateGeneration;
+    private EntityHistory.Snapshot latestHistory = EntityHistory.Snapshot.EMPTY;
+    private TableView<EntityRow> entityTable;
+    private TableView<TotalRow> totalsTable;
+    private TableColumn<TotalRow, Number> countColumn;
+    private final Label statsLabel = new Label();
+    private final Label alertLabel = new Label();
+    private final Spinner<Double> alertRateSpinner = new Spinner<>(0.5, 1000.0, 5.0, 1.0);
     private boolean sortDescending = true;
 
     public EntityPanel() {
         super(10);
-        this.client = MinecraftClient.getInstance();
         setPadding(new Insets(10));
         setStyle("-fx-background-color: #C0C0C0;");
         setupUI();
@@ -41,13 +71,11 @@ public class EntityPanel extends VBox {
 
         // Entity List Section
         Label listHeader = createSectionHeader("Nearby Entities");
-        entityGrid = createStyledGrid();
-        addGridHeader(entityGrid, "Type", "Position", "UUID");
+        entityTable = createEntityTable();
 
         // Totals Section
         Label totalsHeader = createSectionHeader("Entity Totals");
-        totalsGrid = createStyledGrid();
-        addGridHeader(totalsGrid, "Entity Type", "Count");
+        totalsTable = createTotalsTable();
 
         // Sort Button
         Button sortButton = new Button("Sort ▼");
@@ -59,21 +87,37 @@ public class EntityPanel extends VBox {
         refreshButton.setStyle(createButtonStyle());
         refreshButton.setOnAction(e -> updateEntities());
 
+        // Auto-refresh only reads the tracker's live sets, so it is cheap even with many entities.
+        CheckBox autoRefreshBox = new CheckBox("Auto-refresh");
+        Timeline autoRefresh = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateEntities()));
+        autoRefresh.setCycleCount(Timeline.INDEFINITE);
+        autoRefreshBox.selectedProperty().addListener((obs, old, selected) -> {
+            if (selected) autoRefresh.play();
+            else autoRefresh.stop();
+        });
+
+        // Types growing steadily faster than this many entities per minute are flagged.
+        alertRateSpinner.setEditable(true);
+        alertRateSpinner.setPrefWidth(80);
+        alertRateSpinner.valueProperty().addListener((obs, old, newVal) -> updateEntities());
+
         // Control Panel
-        HBox buttonPanel = new HBox(10, sortButton, refreshButton);
+        HBox buttonPanel = new HBox(10, sortButton, refreshButton, autoRefreshBox,
+                new Label("Alert at (/min):"), alertRateSpinner);
         buttonPanel.setPadding(new Insets(5, 0, 5, 0));
 
-        // Scroll Panes
-        ScrollPane listScroll = createScrollPane(entityGrid);
-        ScrollPane totalsScroll = createScrollPane(totalsGrid);
+        statsLabel.setStyle("-fx-text-fill: #000000;");
+        alertLabel.setStyle("-fx-text-fill: #C00000; -fx-font-weight: bold;");
 
         getChildren().addAll(
                 titleLabel,
                 listHeader,
-                listScroll,
+                entityTable,
                 totalsHeader,
-                totalsScroll,
-                buttonPanel
+                totalsTable,
+                buttonPanel,
+                alertLabel,
+                statsLabel
         );
 
         updateEntities();
@@ -85,20 +129,82 @@ public class EntityPanel extends VBox {
         return header;
     }
 
-    private GridPane createStyledGrid() {
-        GridPane grid = new GridPane();
-        grid.setHgap(10);
-        grid.setVgap(5);
-        grid.setPadding(new Insets(5, 10, 5, 10));
-        return grid;
+    private TableView<EntityRow> createEntityTable() {
+        TableView<EntityRow> table = createStyledTable("No entities loaded");
+
+        TableColumn<EntityRow, String> typeCol = new TableColumn<>("Type");
+        typeCol.setCellValueFactory(cellData -> cellData.getValue().typeProperty());
+        typeCol.setPrefWidth(180);
+
+        TableColumn<EntityRow, String> posCol = new TableColumn<>("Position");
+        posCol.setCellValueFactory(cellData -> cellData.getValue().positionProperty());
+        posCol.setPrefWidth(180);
+
+        TableColumn<EntityRow, String> uuidCol = new TableColumn<>("UUID");
+        uuidCol.setCellValueFactory(cellData -> cellData.getValue().uuidProperty());
+        uuidCol.setPrefWidth(280);
+
+        table.getColumns().addAll(typeCol, posCol, uuidCol);
+        bindSorted(table, entityRows);
+        return table;
     }
 
-    private void addGridHeader(GridPane grid, String... headers) {
-        for (int i = 0; i < headers.length; i++) {
-            Label header = createCellLabel(headers[i]);
-            header.setStyle("-fx-font-weight: bold; -fx-background-color: #000080; -fx-text-fill: white;");
-            grid.add(header, i, 0);
-        }
+    private TableView<TotalRow> createTotalsTable() {
+        TableView<TotalRow> table = createStyledTable("No entities loaded");
+
+        TableColumn<TotalRow, String> typeCol = new TableColumn<>("Entity Type");
+        typeCol.setCellValueFactory(cellData -> cellData.getValue().typeProperty());
+        typeCol.setPrefWidth(180);
+
+        countColumn = new TableColumn<>("Count");
+        countColumn.setCellValueFactory(cellData -> cellData.getValue().countProperty());
+        countColumn.setPrefWidth(100);
+        countColumn.setSortType(TableColumn.SortType.DESCENDING);
+
+        TableColumn<TotalRow, EntityHistory.Series> historyCol = new TableColumn<>("History");
+        historyCol.setCellValueFactory(cellData -> cellData.getValue().historyProperty());
+        historyCol.setCellFactory(col -> new SparklineCell());
+        historyCol.setPrefWidth(130);
+        historyCol.setSortable(false);
+
+        TableColumn<TotalRow, String> growthCol = new TableColumn<>("Growth /min");
+        growthCol.setCellValueFactory(cellData -> cellData.getValue().growthProperty());
+        growthCol.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty ? null : item);
+                TotalRow row = empty ? null : getTableRow().getItem();
+                setStyle(row != null && row.isAlerting() ? "-fx-text-fill: #C00000; -fx-font-weight: bold;" : "");
+            }
+        });
+        growthCol.setPrefWidth(90);
+
+        table.getColumns().addAll(typeCol, countColumn, historyCol, growthCol);
+        bindSorted(table, totalRows);
+        table.getSortOrder().add(countColumn);
+        return table;
+    }
+
+    private <T> TableView<T> createStyledTable(String placeholder) {
+        TableView<T> table = new TableView<>();
+        table.setPlaceholder(new Label(placeholder));
+        table.setPrefHeight(200);
+        table.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px; " +
+                        "-fx-background-color: white;"
+        );
+        return table;
+    }
+
+    /**
+     * The table only creates cells for visible rows; sorting is applied on top of the diffed backing list.
+     */
+    private <T> void bindSorted(TableView<T> table, ObservableList<T> rows) {
+        SortedList<T> sorted = new SortedList<>(rows);
+        sorted.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sorted);
     }
 
     private String createButtonStyle() {
@@ -113,107 +219,211 @@ public class EntityPanel extends VBox {
     private void toggleSortOrder(Button sortButton) {
         sortDescending = !sortDescending;
         sortButton.setText(sortDescending ? "Sort ▼" : "Sort ▲");
-        updateEntities();
+        countColumn.setSortType(sortDescending ? TableColumn.SortType.DESCENDING : TableColumn.SortType.ASCENDING);
+        totalsTable.getSortOrder().setAll(List.of(countColumn));
     }
 
-    private ScrollPane createScrollPane(GridPane content) {
-        ScrollPane scrollPane = new ScrollPane(content);
-        scrollPane.setStyle("-fx-background-color: #C0C0C0;");
-        scrollPane.setFitToWidth(true);
-        scrollPane.setPrefViewportHeight(200);
-        return scrollPane;
+    public void updateEntities() {
+        // Both kinds are sampled in the same tick and delivered in request order, so the
+        // history is in place by the time the entity snapshot is applied.
+        snapshots.request(SnapshotService.ENTITY_HISTORY, history -> latestHistory = history);
+        snapshots.request(SnapshotService.ENTITIES, this::applyUpdate);
     }
 
-    private Label createCellLabel(String text) {
-        Label label = new Label(text);
-        label.setStyle("-fx-font-family: 'MS Sans Serif'; " +
-                "-fx-font-size: 12px; " +
-                "-fx-background-color: #FFFFFF; " +
-                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
-                "-fx-border-width: 1px; " +
-                "-fx-padding: 2px 4px;");
-        return label;
+    /**
+     * Apply a refresh to the table models, touching only rows whose values changed. Rows not
+     * stamped with the current generation are the ones that disappeared.
+     */
+    private void applyUpdate(EntitySnapshot snapshot) {
+        EntityHistory.Snapshot history = latestHistory;
+        long applyStart = System.nanoTime();
+        int generation = ++updateGeneration;
+        int added = 0;
+        int changed = 0;
+        int removed = 0;
+
+        // Totals: update counts in place, add new types, drop types that disappeared.
+        double alertRate = alertRateSpinner.getValue();
+        StringBuilder alerts = new StringBuilder();
+        List<TotalRow> newTotals = new ArrayList<>();
+        for (int i = 0; i < snapshot.getTypeCount(); i++) {
+            int typeId = snapshot.getTypeId(i);
+            int count = snapshot.getCount(i);
+            TotalRow row = totalRowsByType.get(typeId);
+            if (row == null) {
+                row = new TotalRow(snapshot.getTypeName(i), count);
+                totalRowsByType.put(typeId, row);
+                newTotals.add(row);
+                added++;
+            } else if (row.getCount() != count) {
+                row.countProperty().set(count);
+                changed++;
+            }
+            row.generation = generation;
+
+            EntityHistory.Series series = history.get(typeId);
+            row.setHistory(series, alertRate);
+            if (row.isAlerting()) {
+                alerts.append(alerts.length() == 0 ? "Growing: " : ", ")
+                        .append(row.getType()).append(String.format(" +%.1f/min", series.getPerMinute()));
+            }
+        }
+        alertLabel.setText(alerts.toString());
+        if (totalRowsByType.size() > snapshot.getTypeCount()) {
+            int totalsBefore = totalRows.size();
+            totalRowsByType.values().removeIf(row -> row.generation != generation);
+            totalRows.removeIf(row -> row.generation != generation);
+            removed += totalsBefore - totalRows.size();
+        }
+        if (!newTotals.isEmpty()) totalRows.addAll(newTotals);
+
+        // Sampled entities: keyed by entity id, positions updated in place.
+        List<EntityRow> newRows = new ArrayList<>();
+        for (int i = 0; i < snapshot.getSampleCount(); i++) {
+            int x = snapshot.getSampleX(i);
+            int y = snapshot.getSampleY(i);
+            int z = snapshot.getSampleZ(i);
+            EntityRow row = entityRowsById.get(snapshot.getSampleEntityId(i));
+            if (row == null) {
+                row = new EntityRow(EntityTypeNames.get(snapshot.getSampleTypeId(i)), x, y, z, snapshot.getSampleUuid(i));
+                entityRowsById.put(snapshot.getSampleEntityId(i), row);
+                newRows.add(row);
+                added++;
+            } else if (row.moveTo(x, y, z)) {
+                changed++;
+            }
+            row.generation = generation;
+        }
+        if (entityRowsById.size() > snapshot.getSampleCount()) {
+            int rowsBefore = entityRows.size();
+            entityRowsById.values().removeIf(row -> row.generation != generation);
+            entityRows.removeIf(row -> row.generation != generation);
+            removed += rowsBefore - entityRows.size();
+        }
+        if (!newRows.isEmpty()) entityRows.addAll(newRows);
+
+        long applyNanos = System.nanoTime() - applyStart;
+        statsLabel.setText(String.format("%d entities, %d types - %d added, %d changed, %d removed - snapshot %.2f ms, apply %.2f ms - %d scene nodes",
+                snapshot.getTotalEntities(), snapshot.getTypeCount(), added, changed, removed,
+                snapshot.getCollectNanos() / 1_000_000.0, applyNanos / 1_000_000.0, countNodes(this)));
     }
 
-    private void addEntityRow(int row, String type, String position, String uuid) {
-        Platform.runLater(() -> entityGrid.addRow(row,
-                createCellLabel(type),
-                createCellLabel(position),
-                createCellLabel(uuid)
-        ));
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) count += countNodes(child);
+        }
+        return count;
     }
 
-    public void updateEntities() {
-        if (client.world == null || client.player == null) return;
-
-        client.execute(() -> {
-            entityCounts.clear();
-            Iterable<Entity> entities = client.world.getEntities();
-            Map<String, List<BlockPos>> entityPositions = new HashMap<>();
-
-            for (Entity entity : entities) {
-                if (entity == client.player) continue;
-                String typeName = getCleanEntityName(entity);
-                entityCounts.put(typeName, entityCounts.getOrDefault(typeName, 0) + 1);
-                entityPositions.computeIfAbsent(typeName, k -> new ArrayList<>()).add(entity.getBlockPos());
-            }
+    public static class EntityRow {
+        private final SimpleStringProperty type;
+        private final SimpleStringProperty position;
+        private final SimpleStringProperty uuid;
+        private int x;
+        private int y;
+        private int z;
+        private int generation;
+
+        public EntityRow(String type, int x, int y, int z, String uuid) {
+            this.type = new SimpleStringProperty(type);
+            this.position = new SimpleStringProperty(formatPosition(x, y, z));
+            this.uuid = new SimpleStringProperty(uuid);
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
 
-            List<Map.Entry<String, Integer>> sortedCounts = entityCounts.entrySet().stream()
-                    .sorted((e1, e2) -> sortDescending ?
-                            e2.getValue().compareTo(e1.getValue()) :
-                            e1.getValue().compareTo(e2.getValue()))
-                    .toList();
-
-            Platform.runLater(() -> {
-                clearGrid(entityGrid);
-                clearGrid(totalsGrid);
-
-                // Add entity list
-                int listRow = 1;
-                for (Map.Entry<String, List<BlockPos>> entry : entityPositions.entrySet()) {
-                    List<BlockPos> positions = entry.getValue();
-                    int displayCount = Math.min(positions.size(), 10);
-
-                    for (int i = 0; i < displayCount; i++) {
-                        BlockPos pos = positions.get(i);
-                        addEntityRow(listRow++,
-                                entry.getKey(),
-                                String.format("(%d, %d, %d)", pos.getX(), pos.getY(), pos.getZ()),
-                                positions.size() + " total"
-                        );
-                    }
-                }
-
-                // Add sorted totals
-                int totalsRow = 1;
-                for (Map.Entry<String, Integer> entry : sortedCounts) {
-                    Label countLabel = createCellLabel(entry.getValue().toString());
-                    countLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #000080;");
-                    totalsGrid.addRow(totalsRow++,
-                            createCellLabel(entry.getKey()),
-                            countLabel
-                    );
-                }
-            });
-        });
-    }
+        /**
+         * Moves the row to a new block position; the position text is only rebuilt when it changed.
+         */
+        private boolean moveTo(int newX, int newY, int newZ) {
+            if (newX == x && newY == y && newZ == z) return false;
+            x = newX;
+            y = newY;
+            z = newZ;
+            position.set(formatPosition(x, y, z));
+            return true;
+        }
 
-    private String getCleanEntityName(Entity entity) {
-        String rawName = entity.getType().getTranslationKey();
-        String[] parts = rawName.split("\\.");
-        if (parts.length == 0) return "Unknown";
+        private static String formatPosition(int x, int y, int z) {
+            return "(" + x + ", " + y + ", " + z + ")";
+        }
 
-        String namePart = parts[parts.length - 1];
-        return Arrays.stream(namePart.split("_"))
-                .map(word -> word.isEmpty() ? "" :
-                        word.substring(0, 1).toUpperCase() + word.substring(1))
-                .collect(Collectors.joining(" "));
+        public String getType() { return type.get(); }
+        public String getPosition() { return position.get(); }
+        public String getUuid() { return uuid.get(); }
+        public SimpleStringProperty typeProperty() { return type; }
+        public SimpleStringProperty positionProperty() { return position; }
+        public SimpleStringProperty uuidProperty() { return uuid; }
     }
 
-    private void clearGrid(GridPane grid) {
-        grid.getChildren().removeIf(node ->
-                GridPane.getRowIndex(node) != null &&
-                        GridPane.getRowIndex(node) >= 1
-        );
+    /**
+     * Draws a type's count history as a line scaled to its own range.
+     */
+    private static final class SparklineCell extends TableCell<TotalRow, EntityHistory.Series> {
+        private final Canvas canvas = new Canvas(120, 16);
+
+        @Override
+        protected void updateItem(EntityHistory.Series series, boolean empty) {
+            super.updateItem(series, empty);
+            if (empty || series == null || series.size() < 2) {
+                setGraphic(null);
+                return;
+            }
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            for (int i = 0; i < series.size(); i++) {
+                min = Math.min(min, series.get(i));
+                max = Math.max(max, series.get(i));
+            }
+            double range = Math.max(1, max - min);
+            double w = canvas.getWidth();
+            double h = canvas.getHeight() - 2;
+
+            GraphicsContext g = canvas.getGraphicsContext2D();
+            g.clearRect(0, 0, w, canvas.getHeight());
+            g.setStroke(Color.web("#000080"));
+            g.setLineWidth(1);
+            g.beginPath();
+            for (int i = 0; i < series.size(); i++) {
+                double x = i * (w - 1) / (series.size() - 1);
+                double y = 1 + h - (series.get(i) - min) / range * h;
+                if (i == 0) g.moveTo(x, y);
+                else g.lineTo(x, y);
+            }
+            g.stroke();
+            setGraphic(canvas);
+        }
+    }
+
+    public static class TotalRow {
+        private final SimpleStringProperty type;
+        private final SimpleIntegerProperty count;
+        private final SimpleObjectProperty<EntityHistory.Series> history = new SimpleObjectProperty<>();
+        private final SimpleStringProperty growth = new SimpleStringProperty("");
+        private boolean alerting;
+        private int generation;
+
+        public TotalRow(String type, int count) {
+            this.type = new SimpleStringProperty(type);
+            this.count = new SimpleIntegerProperty(count);
+        }
+
+        public String getType() { return type.get(); }
+        public int getCount() { return count.get(); }
+        public SimpleStringProperty typeProperty() { return type; }
+        public SimpleIntegerProperty countProperty() { return count; }
+        public SimpleObjectProperty<EntityHistory.Series> historyProperty() { return history; }
+        public SimpleStringProperty growthProperty() { return growth; }
+        public boolean isAlerting() { return alerting; }
+
+        private void setHistory(EntityHistory.Series series, double alertRate) {
+            // Set the flag first so the growth cell styles itself from the new value; the marker
+            // makes the text change whenever the flag does, which re-renders the cell.
+            alerting = series != null && series.isGrowingFasterThan(alertRate);
+            history.set(series);
+            growth.set(series == null ? "" : String.format("%+.1f%s", series.getPerMinute(), alerting ? " !" : ""));
+        }
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ public class FryToolsWindow {
     private static SignScannerPanel signScannerPanel;
     private static CoordinateConverterPanel coordConverterPanel;
     private static CommandScannerPanel commandScannerPanel;
+    private static BlockFinderPanel blockFinderPanel;
 
     public static void start() {
         Platform.startup(() -> {
@@ -49,11 +50,42 @@ public class FryToolsWindow {
         entitiesTab.setContent(EntityPanel.createEntityPanel());
         entitiesTab.setClosable(false);
 
+        // Entity Heatmap Tab
+        Tab entityHeatmapTab = new Tab("Entity Heatmap");
+        entityHeatmapTab.setContent(EntityHeatmapPanel.createEntityHeatmapPanel());
+        entityHeatmapTab.setClosable(false);
+
+        // Block Entities Tab
+        Tab blockEntitiesTab = new Tab("Block Entities");
+        blockEntitiesTab.setContent(BlockEntityPanel.createBlockEntityPanel());
+        blockEntitiesTab.setClosable(false);
+
+        // Network Tab
+        Tab networkTab = new Tab("Network");
+        networkTab.setContent(NetworkPanel.createNetworkPanel());
+        networkTab.setClosable(false);
+
+        // Player Latency Tab
+        Tab latencyTab = new Tab("Players");
+        latencyTab.setContent(LatencyPanel.createLatencyPanel());
+        latencyTab.setClosable(false);
+
+        // Chunk Loading Tab
+        Tab chunksTab = new Tab("Chunks");
+        chunksTab.setContent(ChunkMetricsPanel.createChunkMetricsPanel());
+        chunksTab.setClosable(false);
+
         // Sign Scanner Tab
         Tab signScannerTab = new Tab("Sign Scanner");
         signScannerTab.setClosable(false);
         signScannerPanel = new SignScannerPanel();
-        signScannerTab.setContent(signScannerPanel.createSignScannerPanel());
+        signScannerTab.setContent(signScannerPanel);
+
+        // Block Finder Tab
+        Tab blockFinderTab = new Tab("Block Finder");
+        blockFinderTab.setClosable(false);
+        blockFinderPanel = new BlockFinderPanel();
+        blockFinderTab.setContent(blockFinderPanel.createBlockFinderPanel());
 
         // Coordinate Converter Tab
         Tab coordConverterTab = new Tab("Coord Converter");
@@ -67,13 +99,25 @@ public class FryToolsWindow {
         commandScannerPanel = new CommandScannerPanel();
         commandScannerTab.setContent(commandScannerPanel.createCommandScannerPanel());
 
+        // Batch Runner Tab
+        Tab batchRunnerTab = new Tab("Batch Runner");
+        batchRunnerTab.setContent(CommandBatchPanel.createCommandBatchPanel());
+        batchRunnerTab.setClosable(false);
+
         // Add all tabs
         tabPane.getTabs().addAll(
                 infoTab,
                 entitiesTab,
+                entityHeatmapTab,
+                blockEntitiesTab,
+                networkTab,
+                latencyTab,
+                chunksTab,
                 signScannerTab,
+                blockFinderTab,
                 coordConverterTab,
-                commandScannerTab
+                commandScannerTab,
+                batchRunnerTab
         );
         mainPane.setCenter(tabPane);
 
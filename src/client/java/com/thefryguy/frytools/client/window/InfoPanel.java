@@ -1,6 +1,12 @@
 package com.thefryguy.frytools.client.window;
 
-import javafx.application.Platform;
+import com.thefryguy.frytools.client.perf.FrameStats;
+import com.thefryguy.frytools.client.perf.RuntimeStats;
+import com.thefryguy.frytools.client.perf.TpsSnapshot;
+import com.thefryguy.frytools.client.snapshot.PlayerSnapshot;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -9,10 +15,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.network.ClientPlayNetworkHandler;
-import net.minecraft.client.network.ClientPlayerEntity;
-import net.minecraft.util.math.BlockPos;
+import javafx.util.Duration;
 
 public class InfoPanel extends VBox {
 
@@ -23,18 +26,25 @@ public class InfoPanel extends VBox {
     private Label posValueLabel;
     private Label pingValueLabel;
     private Label otherInfoValueLabel;
-
-    private final MinecraftClient client;
+    private Label gcValueLabel;
+    private Label memoryValueLabel;
+    private Label samplingValueLabel;
+    private TpsSnapshot latestTps;
+    private FrameStats latestFrames;
 
     public InfoPanel() {
         super(15);
-        this.client = MinecraftClient.getInstance();
         setPadding(new Insets(15));
         setStyle("-fx-background-color: #C0C0C0; " +
                 "-fx-border-color: #FFFFFF #808080 #808080 #FFFFFF; " +
                 "-fx-border-width: 2px;");
         setupUI();
         updateFromGame(); // Initial update
+
+        // TPS and frame figures move constantly, so keep them live.
+        Timeline liveUpdate = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateFromGame()));
+        liveUpdate.setCycleCount(Timeline.INDEFINITE);
+        liveUpdate.play();
     }
 
     public static Node createInfoPanel() {
@@ -71,9 +81,18 @@ public class InfoPanel extends VBox {
         otherInfoValueLabel = createValueLabel();
         addInfoRow(grid, 5, "Other Info:", otherInfoValueLabel);
 
+        gcValueLabel = createValueLabel();
+        addInfoRow(grid, 6, "GC:", gcValueLabel);
+
+        memoryValueLabel = createValueLabel();
+        addInfoRow(grid, 7, "Memory:", memoryValueLabel);
+
+        samplingValueLabel = createValueLabel();
+        addInfoRow(grid, 8, "Sampling Cost:", samplingValueLabel);
+
         // Refresh button
         Button refreshButton = new Button("Refresh");
-        refreshButton.setOnAction(e -> new Thread(this::updateFromGame).start());
+        refreshButton.setOnAction(e -> updateFromGame());
         refreshButton.setStyle(
                 "-fx-background-color: #C0C0C0; " +
                         "-fx-border-color: #FFFFFF #808080 #808080 #FFFFFF; " +
@@ -107,20 +126,29 @@ public class InfoPanel extends VBox {
     }
 
     public void updateFromGame() {
-        // Run on Minecraft's main thread
-        client.execute(() -> {
-            String tps = getTPSFromGame();
-            String fps = getFPSFromGame();
-            String player = getPlayerName();
-            String pos = getPlayerPosition();
-            String ping = getPlayerPing();
-            String otherInfo = getOtherGameInfo();
-
-            // Update UI on JavaFX thread
-            Platform.runLater(() -> {
-                updateInfo(tps, fps, player, pos, ping, otherInfo);
-            });
-        });
+        // Sampled on Minecraft's main thread, delivered on the JavaFX thread in request order
+        SnapshotService snapshots = SnapshotService.getInstance();
+        snapshots.request(SnapshotService.TPS, tps -> latestTps = tps);
+        snapshots.request(SnapshotService.FRAMES, frames -> latestFrames = frames);
+        snapshots.request(SnapshotService.RUNTIME, this::showRuntime);
+        snapshots.request(SnapshotService.PLAYER, this::showPlayer);
+    }
+
+    private void showPlayer(PlayerSnapshot player) {
+        updateInfo(
+                latestTps != null ? latestTps.describe() : "N/A",
+                latestFrames != null ? latestFrames.describe() : player.getFps() + " FPS",
+                player.getPlayerName(),
+                "(" + player.getBlockX() + ", " + player.getBlockY() + ", " + player.getBlockZ() + ")",
+                player.getPingMillis() >= 0 ? player.getPingMillis() + "ms" : "N/A",
+                "Game Time: " + player.getTimeOfDay() % 24000
+        );
+        samplingValueLabel.setText(SnapshotService.getInstance().describeCosts());
+    }
+
+    private void showRuntime(RuntimeStats runtime) {
+        gcValueLabel.setText(runtime.describeGc());
+        memoryValueLabel.setText(runtime.describeMemory());
     }
 
     public void updateInfo(String tps, String fps, String player, String pos, String ping, String otherInfo) {
@@ -131,26 +159,4 @@ public class InfoPanel extends VBox {
         pingValueLabel.setText(ping);
         otherInfoValueLabel.setText(otherInfo);
     }
-
-    // Data collection methods remain the same as original working version
-    private String getTPSFromGame() { return "N/A"; }
-    private String getFPSFromGame() { return client.fpsDebugString.split(" ")[0] + " FPS"; }
-    private String getPlayerName() { return client.player != null ? client.player.getName().getString() : "Unknown"; }
-    private String getPlayerPosition() {
-        if (client.player != null) {
-            BlockPos pos = client.player.getBlockPos();
-            return "(" + pos.getX() + ", " + pos.getY() + ", " + pos.getZ() + ")";
-        }
-        return "Unknown";
-    }
-    private String getPlayerPing() {
-        ClientPlayNetworkHandler networkHandler = client.getNetworkHandler();
-        if (networkHandler != null) {
-            return networkHandler.getPlayerListEntry(client.player.getUuid()) != null
-                    ? networkHandler.getPlayerListEntry(client.player.getUuid()).getLatency() + "ms"
-                    : "N/A";
-        }
-        return "N/A";
-    }
-    private String getOtherGameInfo() { return "Game Time: " + client.world.getTimeOfDay() % 24000; }
-}
\ No newline at end of file
+}
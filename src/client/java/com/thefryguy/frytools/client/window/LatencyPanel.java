@@ -0,0 +1,218 @@
+package com.thefryguy.frytools.client.window;
+
+import com.thefryguy.frytools.client.perf.PlayerLatency;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Latency board for every player in the player list, with history graphs.
+ */
+public class LatencyPanel extends VBox {
+    // The extractor turns in-place value changes into list updates, so the sorted view stays ordered.
+    private final ObservableList<LatencyRow> rows = FXCollections.observableArrayList(row -> new Observable[]{
+            row.currentProperty(), row.averageProperty(), row.maxProperty(), row.jitterProperty()});
+    private final Map<String, LatencyRow> rowsByName = new HashMap<>();
+    private final Label summaryLabel = new Label("Waiting for player list...");
+
+    public LatencyPanel() {
+        super(10);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: #C0C0C0;");
+        setupUI();
+    }
+
+    public static Node createLatencyPanel() {
+        return new LatencyPanel();
+    }
+
+    private void setupUI() {
+        Label titleLabel = new Label("Player Latency");
+        titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
+        summaryLabel.setStyle("-fx-text-fill: #000000;");
+
+        getChildren().addAll(titleLabel, createTable(), summaryLabel);
+
+        // The tracker samples every 5 seconds; refreshing at the same pace is enough.
+        Timeline refresh = new Timeline(new KeyFrame(Duration.seconds(5), e -> updateLatency()));
+        refresh.setCycleCount(Timeline.INDEFINITE);
+        refresh.play();
+        updateLatency();
+    }
+
+    private TableView<LatencyRow> createTable() {
+        TableView<LatencyRow> table = new TableView<>();
+        table.setPlaceholder(new Label("No players - join a server"));
+        table.setPrefHeight(420);
+        table.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px; " +
+                        "-fx-background-color: white;"
+        );
+
+        TableColumn<LatencyRow, String> nameCol = new TableColumn<>("Player");
+        nameCol.setCellValueFactory(cellData -> cellData.getValue().nameProperty());
+        nameCol.setPrefWidth(160);
+
+        TableColumn<LatencyRow, Number> currentCol = new TableColumn<>("Current");
+        currentCol.setCellValueFactory(cellData -> cellData.getValue().currentProperty());
+        currentCol.setPrefWidth(70);
+        currentCol.setSortType(TableColumn.SortType.DESCENDING);
+
+        TableColumn<LatencyRow, Number> averageCol = new TableColumn<>("Average");
+        averageCol.setCellValueFactory(cellData -> cellData.getValue().averageProperty());
+        averageCol.setCellFactory(col -> millisCell());
+        averageCol.setPrefWidth(70);
+
+        TableColumn<LatencyRow, Number> maxCol = new TableColumn<>("Max");
+        maxCol.setCellValueFactory(cellData -> cellData.getValue().maxProperty());
+        maxCol.setPrefWidth(60);
+
+        TableColumn<LatencyRow, Number> jitterCol = new TableColumn<>("Jitter");
+        jitterCol.setCellValueFactory(cellData -> cellData.getValue().jitterProperty());
+        jitterCol.setCellFactory(col -> millisCell());
+        jitterCol.setPrefWidth(60);
+
+        TableColumn<LatencyRow, PlayerLatency> graphCol = new TableColumn<>("History");
+        graphCol.setCellValueFactory(cellData -> cellData.getValue().latencyProperty());
+        graphCol.setCellFactory(col -> new LatencyGraphCell());
+        graphCol.setPrefWidth(140);
+        graphCol.setSortable(false);
+
+        table.getColumns().addAll(nameCol, currentCol, averageCol, maxCol, jitterCol, graphCol);
+        SortedList<LatencyRow> sorted = new SortedList<>(rows);
+        sorted.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sorted);
+        table.getSortOrder().add(currentCol);
+        return table;
+    }
+
+    private static TableCell<LatencyRow, Number> millisCell() {
+        return new TableCell<>() {
+            @Override
+            protected void updateItem(Number item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : String.format("%.1f", item.doubleValue()));
+            }
+        };
+    }
+
+    private void updateLatency() {
+        SnapshotService.getInstance().request(SnapshotService.PLAYER_LATENCY, this::showLatency);
+    }
+
+    private void showLatency(List<PlayerLatency> players) {
+        Set<String> seen = new HashSet<>();
+        List<LatencyRow> added = new ArrayList<>();
+        double sumAverage = 0;
+        PlayerLatency worst = null;
+        for (PlayerLatency player : players) {
+            seen.add(player.getName());
+            LatencyRow row = rowsByName.get(player.getName());
+            if (row == null) {
+                row = new LatencyRow(player.getName());
+                rowsByName.put(player.getName(), row);
+                added.add(row);
+            }
+            row.update(player);
+            sumAverage += player.getAverage();
+            if (worst == null || player.getAverage() > worst.getAverage()) worst = player;
+        }
+        if (rowsByName.size() > players.size()) {
+            rowsByName.keySet().retainAll(seen);
+            rows.retainAll(rowsByName.values());
+        }
+        if (!added.isEmpty()) rows.addAll(added);
+
+        summaryLabel.setText(players.isEmpty() ? "No players in the player list" : String.format(
+                "%d players - mean latency %.0f ms - worst average %s %.0f ms",
+                players.size(), sumAverage / players.size(), worst.getName(), worst.getAverage()));
+    }
+
+    /**
+     * Draws a player's recent latency on a fixed 0-500 ms scale, so rows compare at a glance.
+     */
+    private static final class LatencyGraphCell extends TableCell<LatencyRow, PlayerLatency> {
+        private static final double SCALE_MILLIS = 500;
+        private final Canvas canvas = new Canvas(130, 16);
+
+        @Override
+        protected void updateItem(PlayerLatency latency, boolean empty) {
+            super.updateItem(latency, empty);
+            if (empty || latency == null || latency.getRecentCount() < 2) {
+                setGraphic(null);
+                return;
+            }
+            double w = canvas.getWidth();
+            double h = canvas.getHeight() - 2;
+            GraphicsContext g = canvas.getGraphicsContext2D();
+            g.clearRect(0, 0, w, canvas.getHeight());
+            g.setStroke(latency.getAverage() > 250 ? Color.web("#C00000") : Color.web("#000080"));
+            g.setLineWidth(1);
+            g.beginPath();
+            int points = latency.getRecentCount();
+            for (int i = 0; i < points; i++) {
+                double x = i * (w - 1) / (points - 1);
+                double y = 1 + h - Math.min(1, latency.getRecent(i) / SCALE_MILLIS) * h;
+                if (i == 0) g.moveTo(x, y);
+                else g.lineTo(x, y);
+            }
+            g.stroke();
+            setGraphic(canvas);
+        }
+    }
+
+    public static class LatencyRow {
+        private final SimpleStringProperty name;
+        private final SimpleIntegerProperty current = new SimpleIntegerProperty();
+        private final SimpleDoubleProperty average = new SimpleDoubleProperty();
+        private final SimpleIntegerProperty max = new SimpleIntegerProperty();
+        private final SimpleDoubleProperty jitter = new SimpleDoubleProperty();
+        private final SimpleObjectProperty<PlayerLatency> latency = new SimpleObjectProperty<>();
+
+        public LatencyRow(String name) {
+            this.name = new SimpleStringProperty(name);
+        }
+
+        private void update(PlayerLatency player) {
+            current.set(player.getCurrent());
+            average.set(player.getAverage());
+            max.set(player.getMax());
+            jitter.set(player.getJitter());
+            latency.set(player);
+        }
+
+        public SimpleStringProperty nameProperty() { return name; }
+        public SimpleIntegerProperty currentProperty() { return current; }
+        public SimpleDoubleProperty averageProperty() { return average; }
+        public SimpleIntegerProperty maxProperty() { return max; }
+        public SimpleDoubleProperty jitterProperty() { return jitter; }
+        public SimpleObjectProperty<PlayerLatency> latencyProperty() { return latency; }
+    }
+}
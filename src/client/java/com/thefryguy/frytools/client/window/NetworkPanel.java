@@ -0,0 +1,199 @@
+package com.thefryguy.frytools.client.window;
+
+import com.thefryguy.frytools.client.perf.NetworkStats;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inbound and outbound packets and bytes per packet type, refreshed every second.
+ */
+public class NetworkPanel extends VBox {
+    // Types listed per direction in the top list above the table.
+    private static final int TOP_TYPES = 5;
+
+    private final ObservableList<TrafficRow> rows =
+            FXCollections.observableArrayList(row -> new Observable[]{row.bytesPerSecondProperty()});
+    // Rows keyed by direction and type, updated in place on each refresh.
+    private final Map<String, TrafficRow> rowsByKey = new HashMap<>();
+    private final Label totalsLabel = new Label("Waiting for traffic...");
+    private final Label topInLabel = new Label();
+    private final Label topOutLabel = new Label();
+    private final Label overheadLabel = new Label();
+
+    public NetworkPanel() {
+        super(10);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: #C0C0C0;");
+        setupUI();
+    }
+
+    public static Node createNetworkPanel() {
+        return new NetworkPanel();
+    }
+
+    private void setupUI() {
+        Label titleLabel = new Label("Network Traffic");
+        titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
+
+        totalsLabel.setStyle("-fx-font-weight: bold;");
+        TableView<TrafficRow> table = createTable();
+        overheadLabel.setStyle("-fx-text-fill: #000000;");
+
+        getChildren().addAll(titleLabel, totalsLabel, topInLabel, topOutLabel, table, overheadLabel);
+
+        Timeline refresh = new Timeline(new KeyFrame(Duration.seconds(1), e -> updateTraffic()));
+        refresh.setCycleCount(Timeline.INDEFINITE);
+        refresh.play();
+    }
+
+    private TableView<TrafficRow> createTable() {
+        TableView<TrafficRow> table = new TableView<>();
+        table.setPlaceholder(new Label("No packets counted yet - join a server"));
+        table.setPrefHeight(360);
+        table.setStyle(
+                "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px; " +
+                        "-fx-background-color: white;"
+        );
+
+        TableColumn<TrafficRow, String> directionCol = new TableColumn<>("Dir");
+        directionCol.setCellValueFactory(cellData -> cellData.getValue().directionProperty());
+        directionCol.setPrefWidth(45);
+
+        TableColumn<TrafficRow, String> typeCol = new TableColumn<>("Packet Type");
+        typeCol.setCellValueFactory(cellData -> cellData.getValue().typeProperty());
+        typeCol.setPrefWidth(220);
+
+        TableColumn<TrafficRow, Number> packetRateCol = new TableColumn<>("Packets/s");
+        packetRateCol.setCellValueFactory(cellData -> cellData.getValue().packetsPerSecondProperty());
+        packetRateCol.setCellFactory(col -> decimalCell("%.1f", 1));
+        packetRateCol.setPrefWidth(80);
+
+        TableColumn<TrafficRow, Number> byteRateCol = new TableColumn<>("KB/s");
+        byteRateCol.setCellValueFactory(cellData -> cellData.getValue().bytesPerSecondProperty());
+        byteRateCol.setCellFactory(col -> decimalCell("%.2f", 1024));
+        byteRateCol.setPrefWidth(80);
+        byteRateCol.setSortType(TableColumn.SortType.DESCENDING);
+
+        TableColumn<TrafficRow, Number> packetsCol = new TableColumn<>("Packets");
+        packetsCol.setCellValueFactory(cellData -> cellData.getValue().packetsProperty());
+        packetsCol.setPrefWidth(90);
+
+        TableColumn<TrafficRow, Number> bytesCol = new TableColumn<>("Total KB");
+        bytesCol.setCellValueFactory(cellData -> cellData.getValue().bytesProperty());
+        bytesCol.setCellFactory(col -> decimalCell("%.1f", 1024));
+        bytesCol.setPrefWidth(90);
+
+        table.getColumns().addAll(directionCol, typeCol, packetRateCol, byteRateCol, packetsCol, bytesCol);
+        SortedList<TrafficRow> sorted = new SortedList<>(rows);
+        sorted.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sorted);
+        table.getSortOrder().add(byteRateCol);
+        return table;
+    }
+
+    private static TableCell<TrafficRow, Number> decimalCell(String format, double divisor) {
+        return new TableCell<>() {
+            @Override
+            protected void updateItem(Number item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : String.format(format, item.doubleValue() / divisor));
+            }
+        };
+    }
+
+    private void updateTraffic() {
+        SnapshotService.getInstance().request(SnapshotService.NETWORK, this::showTraffic);
+    }
+
+    private void showTraffic(NetworkStats stats) {
+        List<TrafficRow> added = new ArrayList<>();
+        for (NetworkStats.Row stat : stats.getRows()) {
+            String key = (stat.isInbound() ? "in:" : "out:") + stat.getType();
+            TrafficRow row = rowsByKey.get(key);
+            if (row == null) {
+                row = new TrafficRow(stat.isInbound() ? "In" : "Out", stat.getType());
+                rowsByKey.put(key, row);
+                added.add(row);
+            }
+            row.update(stat);
+        }
+        // Counters are reset on join; drop rows whose type is gone.
+        if (rowsByKey.size() > stats.getRows().size()) {
+            Set<String> current = new HashSet<>();
+            for (NetworkStats.Row stat : stats.getRows()) current.add((stat.isInbound() ? "in:" : "out:") + stat.getType());
+            rowsByKey.keySet().retainAll(current);
+            rows.retainAll(rowsByKey.values());
+        }
+        if (!added.isEmpty()) rows.addAll(added);
+
+        totalsLabel.setText(String.format("In: %.0f packets/s, %.1f KB/s - Out: %.0f packets/s, %.1f KB/s",
+                stats.totalPacketsPerSecond(true), stats.totalBytesPerSecond(true) / 1024,
+                stats.totalPacketsPerSecond(false), stats.totalBytesPerSecond(false) / 1024));
+        topInLabel.setText("Top inbound: " + describeTop(stats.topByByteRate(true, TOP_TYPES)));
+        topOutLabel.setText("Top outbound: " + describeTop(stats.topByByteRate(false, TOP_TYPES)));
+        overheadLabel.setText(String.format("Counting cost: %.0f ns per packet (sampled, includes one clock read)",
+                stats.getCountingOverheadNanos()));
+    }
+
+    private static String describeTop(List<NetworkStats.Row> top) {
+        if (top.isEmpty()) return "-";
+        StringBuilder text = new StringBuilder();
+        for (NetworkStats.Row row : top) {
+            if (text.length() > 0) text.append(", ");
+            text.append(row.getType()).append(String.format(" %.1f KB/s", row.getBytesPerSecond() / 1024));
+        }
+        return text.toString();
+    }
+
+    public static class TrafficRow {
+        private final SimpleStringProperty direction;
+        private final SimpleStringProperty type;
+        private final SimpleDoubleProperty packetsPerSecond = new SimpleDoubleProperty();
+        private final SimpleDoubleProperty bytesPerSecond = new SimpleDoubleProperty();
+        private final SimpleLongProperty packets = new SimpleLongProperty();
+        private final SimpleLongProperty bytes = new SimpleLongProperty();
+
+        public TrafficRow(String direction, String type) {
+            this.direction = new SimpleStringProperty(direction);
+            this.type = new SimpleStringProperty(type);
+        }
+
+        private void update(NetworkStats.Row stat) {
+            packetsPerSecond.set(stat.getPacketsPerSecond());
+            bytesPerSecond.set(stat.getBytesPerSecond());
+            packets.set(stat.getPackets());
+            bytes.set(stat.getBytes());
+        }
+
+        public SimpleStringProperty directionProperty() { return direction; }
+        public SimpleStringProperty typeProperty() { return type; }
+        public SimpleDoubleProperty packetsPerSecondProperty() { return packetsPerSecond; }
+        public SimpleDoubleProperty bytesPerSecondProperty() { return bytesPerSecond; }
+        public SimpleLongProperty packetsProperty() { return packets; }
+        public SimpleLongProperty bytesProperty() { return bytes; }
+    }
+}
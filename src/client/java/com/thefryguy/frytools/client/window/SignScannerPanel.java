@@ -1,5 +1,23 @@
 package com.thefryguy.frytools.client.window;
 
+import com.thefryguy.frytools.client.ServerIdentity;
+import com.thefryguy.frytools.client.export.ExportColumn;
+import com.thefryguy.frytools.client.export.ExportFormat;
+import com.thefryguy.frytools.client.export.ResultExporter;
+import com.thefryguy.frytools.client.scan.BlockSpatialIndex;
+import com.thefryguy.frytools.client.scan.ScanProgress;
+import com.thefryguy.frytools.client.scan.ScanScheduler;
+import com.thefryguy.frytools.client.scan.SignArchive;
+import com.thefryguy.frytools.client.scan.SignIndex;
+import com.thefryguy.frytools.client.scan.SignRecord;
+import com.thefryguy.frytools.client.scan.SignScanTask;
+import com.thefryguy.frytools.client.scan.SignTextIndex;
+import com.thefryguy.frytools.client.scan.TimeSlicedScan;
+import com.thefryguy.frytools.client.snapshot.PlayerSnapshot;
+import com.thefryguy.frytools.client.snapshot.SnapshotService;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -7,34 +25,67 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.Spinner;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
-import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
-import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.block.entity.SignBlockEntity;
+import javafx.util.Duration;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.text.Text;
+import net.minecraft.client.world.ClientWorld;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
 
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SignScannerPanel extends VBox {
+    private static final String VIEW_ALL = "All signs";
+    private static final String VIEW_RADIUS = "Within radius";
+    private static final String VIEW_NEAREST = "Nearest";
+
     private final MinecraftClient client;
+    private final SignIndex signIndex = SignIndex.getInstance();
     private final ObservableList<SignEntry> signEntries = FXCollections.observableArrayList();
-    // Store last sign data so it can be saved as CSV later.
-    private Map<BlockPos, String> lastSignData = new HashMap<>();
+    // Latest snapshot published by the sign index, kept so it can be exported later.
+    private List<SignRecord> lastSignData = List.of();
+    private String lastWorldName = "unknown";
+    private String lastDimension = "unknown";
+    private boolean exportRunning;
+    // Table rows for every sign in lastSignData, in the same order as the text index documents.
+    private List<SignEntry> allEntries = List.of();
+    private SignTextIndex textIndex = SignTextIndex.build(List.of());
+    private BlockSpatialIndex spatialIndex = buildSpatialIndex(List.of());
+    private final AtomicLong snapshotSequence = new AtomicLong();
+    private long shownSequence;
+    private final TextField searchField = new TextField();
+    private final Label searchResultLabel = new Label();
     private TableView<SignEntry> signTable;
+    private final Label statusLabel = new Label("Ready");
+    private final Label indexLabel = new Label();
+    private final ProgressBar scanProgressBar = new ProgressBar(0);
+    private final Button cancelButton = createClassicButton("Cancel");
+    private SignScanTask activeScan;
+    // Signs read back from the on-disk archive, shown wherever the live index has no entry.
+    private volatile List<SignRecord> archivedSigns = List.of();
+    private final SnapshotService snapshots = SnapshotService.getInstance();
+    // Last sampled player state, used by the spatial views; only touched on the FX thread.
+    private PlayerSnapshot latestPlayer;
+    private final Spinner<Integer> archiveRadiusSpinner = new Spinner<>(16, 30_000_000, 1024, 256);
+    private final Label archiveLabel = new Label();
+    // Radius in blocks used by rescans and the "Within radius" view.
+    private final Spinner<Integer> radiusSpinner = new Spinner<>(16, 4096, 75, 16);
+    private final Spinner<Integer> nearestSpinner = new Spinner<>(1, 10_000, 100, 10);
+    private final ComboBox<String> viewModeBox = new ComboBox<>(FXCollections.observableArrayList(VIEW_ALL, VIEW_RADIUS, VIEW_NEAREST));
 
     public SignScannerPanel() {
         super(10);
@@ -52,31 +103,102 @@ public class SignScannerPanel extends VBox {
         Label titleLabel = new Label("Sign Scanner");
         titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; -fx-text-fill: #000080;");
 
+        // Search box filters the table through the text index on every keystroke.
+        searchField.setPromptText("Search sign text...");
+        searchField.setPrefWidth(250);
+        searchField.setStyle(
+                "-fx-background-color: white; " +
+                        "-fx-border-color: #808080 #FFFFFF #FFFFFF #808080; " +
+                        "-fx-border-width: 2px;"
+        );
+        searchField.textProperty().addListener((obs, old, newVal) -> applyFilters());
+
+        // View mode restricts the table to signs around the player's live position.
+        viewModeBox.setValue(VIEW_ALL);
+        viewModeBox.setOnAction(e -> {
+            applyFilters();
+            followPlayer();
+        });
+        radiusSpinner.setEditable(true);
+        radiusSpinner.setPrefWidth(80);
+        radiusSpinner.valueProperty().addListener((obs, old, newVal) -> applyFilters());
+        nearestSpinner.setEditable(true);
+        nearestSpinner.setPrefWidth(80);
+        nearestSpinner.valueProperty().addListener((obs, old, newVal) -> applyFilters());
+        HBox searchPanel = new HBox(5, searchField, viewModeBox, new Label("Radius:"), radiusSpinner,
+                new Label("Count:"), nearestSpinner, searchResultLabel);
+
+        // Spatial views follow the player, so refresh them once a second.
+        Timeline followPlayer = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
+            if (!VIEW_ALL.equals(viewModeBox.getValue())) followPlayer();
+        }));
+        followPlayer.setCycleCount(Timeline.INDEFINITE);
+        followPlayer.play();
+
         // Setup table view like in CommandScannerPanel.
         setupTable();
 
-        // Create Refresh and Save as .csv buttons with matching style.
+        // Refresh re-reads the index, Rescan re-walks the loaded chunks around the player.
         Button refreshButton = createClassicButton("↻");
-        refreshButton.setOnAction(e -> refreshSignData());
+        refreshButton.setOnAction(e -> signIndex.requestPublish());
+
+        Button rescanButton = createClassicButton("Rescan");
+        rescanButton.setOnAction(e -> refreshSignData());
 
-        Button saveCsvButton = createClassicButton("Save as .csv");
-        saveCsvButton.setOnAction(e -> saveCSV());
+        Button exportButton = createClassicButton("Export...");
+        exportButton.setOnAction(e -> exportSigns());
+
+        cancelButton.setDisable(true);
+        cancelButton.setOnAction(e -> cancelScan());
+        scanProgressBar.setPrefWidth(150);
 
         HBox buttonPanel = new HBox(5);
-        buttonPanel.getChildren().addAll(refreshButton, saveCsvButton);
+        buttonPanel.getChildren().addAll(refreshButton, rescanButton, cancelButton, exportButton, scanProgressBar);
+
+        // Archive panel loads signs from earlier sessions, including areas that are not loaded.
+        Button loadArchiveButton = createClassicButton("Load archived");
+        loadArchiveButton.setOnAction(e -> loadArchivedSigns());
+        Button clearArchiveButton = createClassicButton("Hide archived");
+        clearArchiveButton.setOnAction(e -> {
+            archivedSigns = List.of();
+            signIndex.requestPublish();
+        });
+        archiveRadiusSpinner.setEditable(true);
+        archiveRadiusSpinner.setPrefWidth(100);
+        HBox archivePanel = new HBox(5, new Label("Archive radius:"), archiveRadiusSpinner,
+                loadArchiveButton, clearArchiveButton, archiveLabel);
 
-        // Optionally, add a status label (here just for demonstration).
-        Label statusLabel = new Label("Ready");
+        // Index label shows the size of the index, status label the progress and time of the last rescan.
         statusLabel.setStyle("-fx-text-fill: #000000;");
+        indexLabel.setStyle("-fx-text-fill: #000000;");
 
         getChildren().addAll(
                 titleLabel,
+                searchPanel,
                 signTable,
                 buttonPanel,
+                archivePanel,
+                indexLabel,
                 statusLabel
         );
 
-        refreshSignData();
+        // The index publishes on the client thread; the text index is built on a scan worker
+        // and the result handed over to the FX thread.
+        signIndex.addListener(snapshot -> {
+            long sequence = snapshotSequence.incrementAndGet();
+            String worldName = ServerIdentity.currentServerName(client);
+            String dimension = ServerIdentity.currentDimension(client);
+            List<SignRecord> archived = archivedSigns;
+            ScanScheduler.getInstance().execute(() -> {
+                List<SignRecord> combined = mergeArchived(snapshot, archived);
+                List<String> texts = new ArrayList<>(combined.size());
+                for (SignRecord record : combined) texts.add(record.getText());
+                SignTextIndex builtIndex = SignTextIndex.build(texts);
+                BlockSpatialIndex builtSpatialIndex = buildSpatialIndex(combined);
+                Platform.runLater(() -> showSnapshot(sequence, combined, builtIndex, builtSpatialIndex, worldName, dimension));
+            });
+        });
+        signIndex.requestPublish();
     }
 
     private void setupTable() {
@@ -96,7 +218,15 @@ public class SignScannerPanel extends VBox {
         contentCol.setCellValueFactory(new PropertyValueFactory<>("content"));
         contentCol.setPrefWidth(400);
 
-        signTable.getColumns().addAll(posCol, contentCol);
+        TableColumn<SignEntry, String> statusCol = new TableColumn<>("Status");
+        statusCol.setCellValueFactory(new PropertyValueFactory<>("status"));
+        statusCol.setPrefWidth(80);
+
+        TableColumn<SignEntry, String> distanceCol = new TableColumn<>("Distance");
+        distanceCol.setCellValueFactory(new PropertyValueFactory<>("distance"));
+        distanceCol.setPrefWidth(80);
+
+        signTable.getColumns().addAll(posCol, contentCol, statusCol, distanceCol);
         signTable.setItems(signEntries);
     }
 
@@ -111,91 +241,271 @@ public class SignScannerPanel extends VBox {
         return btn;
     }
 
-    private void refreshSignData() {
-        if (client.world == null || client.player == null) return;
-
-        client.execute(() -> {
-            Map<BlockPos, String> signData = new HashMap<>();
-            ObservableList<SignEntry> newEntries = FXCollections.observableArrayList();
-            BlockPos playerPos = client.player.getBlockPos();
-            int radius = 75;
-
-            for (int x = -radius; x <= radius; x++) {
-                for (int y = -radius; y <= radius; y++) {
-                    for (int z = -radius; z <= radius; z++) {
-                        BlockPos pos = playerPos.add(x, y, z);
-                        BlockState state = client.world.getBlockState(pos);
-
-                        if (!isSign(state)) continue;
-
-                        BlockEntity blockEntity = client.world.getBlockEntity(pos);
-                        if (blockEntity instanceof SignBlockEntity sign) {
-                            StringBuilder content = new StringBuilder();
-                            Arrays.stream(sign.getFrontText().getMessages(true))
-                                    .map(Text::getString)
-                                    .filter(lineText -> !lineText.isEmpty())
-                                    .forEach(lineText -> content.append(lineText).append(" "));
-                            String text = !content.isEmpty() ? content.toString().trim() : "[Empty Sign]";
-                            signData.put(pos, text);
-                            String positionText = String.format("(%d, %d, %d)", pos.getX(), pos.getY(), pos.getZ());
-                            newEntries.add(new SignEntry(positionText, text));
-                        }
-                    }
-                }
+    private void showSnapshot(long sequence, List<SignRecord> snapshot, SignTextIndex builtIndex,
+                              BlockSpatialIndex builtSpatialIndex, String worldName, String dimension) {
+        // Text indexes may finish out of order; never replace a newer snapshot with an older one.
+        if (sequence < shownSequence) return;
+        shownSequence = sequence;
+
+        List<SignEntry> newEntries = new ArrayList<>(snapshot.size());
+        int staleCount = 0;
+        int archivedCount = 0;
+        for (SignRecord record : snapshot) {
+            if (record.isArchived()) archivedCount++;
+            else if (record.isStale()) staleCount++;
+            newEntries.add(new SignEntry(record.getPackedPos(), formatPosition(record), record.getText(), record.getStatus()));
+        }
+        lastSignData = snapshot;
+        lastWorldName = worldName;
+        lastDimension = dimension;
+        allEntries = newEntries;
+        textIndex = builtIndex;
+        spatialIndex = builtSpatialIndex;
+        indexLabel.setText(String.format("%d signs (%d stale, %d archived) - text index: %d words, %d trigrams, ~%d KB, built in %.1f ms",
+                snapshot.size(), staleCount, archivedCount, builtIndex.getTokenCount(), builtIndex.getTrigramCount(),
+                builtIndex.getEstimatedBytes() / 1024, builtIndex.getBuildNanos() / 1_000_000.0));
+        applyFilters();
+    }
+
+    private static BlockSpatialIndex buildSpatialIndex(List<SignRecord> records) {
+        int[] x = new int[records.size()];
+        int[] y = new int[records.size()];
+        int[] z = new int[records.size()];
+        for (int i = 0; i < x.length; i++) {
+            SignRecord record = records.get(i);
+            x[i] = record.getX();
+            y[i] = record.getY();
+            z[i] = record.getZ();
+        }
+        return BlockSpatialIndex.build(x, y, z);
+    }
+
+    private static List<SignRecord> mergeArchived(List<SignRecord> live, List<SignRecord> archived) {
+        if (archived.isEmpty()) return live;
+        LongOpenHashSet livePositions = new LongOpenHashSet(live.size());
+        for (SignRecord record : live) livePositions.add(record.getPackedPos());
+        List<SignRecord> combined = new ArrayList<>(live.size() + archived.size());
+        combined.addAll(live);
+        for (SignRecord record : archived) {
+            if (!livePositions.contains(record.getPackedPos())) combined.add(record);
+        }
+        return combined;
+    }
+
+    /**
+     * Query the archive of the current server and dimension around the player.
+     */
+    private void loadArchivedSigns() {
+        archiveLabel.setText("Loading archive...");
+        snapshots.request(SnapshotService.PLAYER, this::loadArchivedSigns);
+    }
+
+    private void loadArchivedSigns(PlayerSnapshot player) {
+        latestPlayer = player;
+        int radius = archiveRadiusSpinner.getValue();
+        SignArchive archive = SignArchive.getInstance();
+
+        archive.query(player.getDimensionKey(), player.getBlockX() - radius, player.getBlockZ() - radius,
+                        player.getBlockX() + radius, player.getBlockZ() + radius)
+                .thenCombine(archive.describe(player.getDimensionKey()), (records, description) -> {
+                    archivedSigns = records;
+                    signIndex.requestPublish();
+                    Platform.runLater(() -> archiveLabel.setText(records.size() + " archived signs in range. " + description));
+                    return records;
+                });
+    }
+
+    /**
+     * Re-apply the filters once a fresh player position has been sampled.
+     */
+    private void followPlayer() {
+        snapshots.request(SnapshotService.PLAYER, player -> {
+            latestPlayer = player;
+            applyFilters();
+        });
+    }
+
+    /**
+     * Combine the spatial view (around the player's last sampled position) with the text search.
+     */
+    private void applyFilters() {
+        long start = System.nanoTime();
+        String mode = viewModeBox.getValue();
+        int[] spatialMatches = null;
+        BlockPos playerPos = latestPlayer != null ? latestPlayer.getBlockPos() : null;
+        if (playerPos != null && VIEW_RADIUS.equals(mode)) {
+            spatialMatches = spatialIndex.radius(playerPos.getX(), playerPos.getY(), playerPos.getZ(), radiusSpinner.getValue());
+        } else if (playerPos != null && VIEW_NEAREST.equals(mode)) {
+            spatialMatches = spatialIndex.nearest(playerPos.getX(), playerPos.getY(), playerPos.getZ(), nearestSpinner.getValue());
+        }
+
+        String query = searchField.getText();
+        int[] textMatches = query.isBlank() ? null : textIndex.search(query);
+
+        List<SignEntry> filtered;
+        if (spatialMatches == null && textMatches == null) {
+            filtered = allEntries;
+        } else if (spatialMatches == null) {
+            filtered = new ArrayList<>(textMatches.length);
+            for (int doc : textMatches) filtered.add(allEntries.get(doc));
+        } else {
+            // Keep the nearest-first order of the spatial query, restricted to text matches.
+            BitSet allowed = null;
+            if (textMatches != null) {
+                allowed = new BitSet(allEntries.size());
+                for (int doc : textMatches) allowed.set(doc);
             }
+            filtered = new ArrayList<>(spatialMatches.length);
+            for (int doc : spatialMatches) {
+                if (allowed == null || allowed.get(doc)) filtered.add(allEntries.get(doc));
+            }
+        }
 
-            Platform.runLater(() -> {
-                lastSignData = signData;
-                signEntries.setAll(newEntries);
-            });
+        // Distances are only kept current for the spatial views, whose rows are already bounded.
+        if (spatialMatches != null) {
+            for (SignEntry entry : filtered) entry.updateDistance(playerPos);
+        }
+        signEntries.setAll(filtered);
+        searchResultLabel.setText(filtered == allEntries ? "" : String.format("%d matches (%.2f ms)",
+                filtered.size(), (System.nanoTime() - start) / 1_000_000.0));
+    }
+
+    /**
+     * Re-index every loaded chunk around the player, e.g. after the index was cleared. The work
+     * is time-sliced by the scan scheduler; results reach the table through the index snapshots.
+     */
+    private void refreshSignData() {
+        snapshots.request(SnapshotService.PLAYER, this::refreshSignData);
+    }
+
+    private void refreshSignData(PlayerSnapshot player) {
+        latestPlayer = player;
+        // The scan binds to the world it starts in; the scheduler cancels it if the world changes.
+        ClientWorld world = client.world;
+        if (world == null) return;
+        cancelScan();
+
+        BlockPos playerPos = player.getBlockPos();
+        int chunkRadius = ChunkSectionPos.getSectionCoord(radiusSpinner.getValue()) + 1;
+        long[] chunks = TimeSlicedScan.chunksNearestFirst(
+                ChunkSectionPos.getSectionCoord(playerPos.getX()),
+                ChunkSectionPos.getSectionCoord(playerPos.getZ()),
+                chunkRadius);
+
+        SignScanTask scan = new SignScanTask(world, chunks, signIndex);
+        scan.setProgressListener(progress -> {
+            int signsFound = scan.getSignsFound();
+            Platform.runLater(() -> showScanProgress(scan, progress, signsFound));
         });
+        activeScan = scan;
+        cancelButton.setDisable(false);
+        scanProgressBar.setProgress(0);
+        statusLabel.setText("Rescanning " + chunks.length + " chunks...");
+        ScanScheduler.getInstance().submit(scan);
+    }
+
+    private void showScanProgress(SignScanTask scan, ScanProgress progress, int signsFound) {
+        if (scan != activeScan) return;
+        scanProgressBar.setProgress(progress.getFraction());
+        if (!progress.isDone()) {
+            statusLabel.setText(String.format("Rescanning... %d/%d chunks, %d signs",
+                    progress.getCompletedUnits(), progress.getTotalUnits(), signsFound));
+            return;
+        }
+
+        activeScan = null;
+        cancelButton.setDisable(true);
+        statusLabel.setText(String.format("%s %d/%d chunks, %d signs (%s)",
+                progress.isCancelled() ? "Cancelled after" : "Rescanned",
+                progress.getCompletedUnits(), progress.getTotalUnits(), signsFound, progress.describeTiming()));
+        signIndex.requestPublish();
     }
 
-    private boolean isSign(BlockState state) {
-        return state.getBlock() == Blocks.OAK_SIGN ||
-                state.getBlock() == Blocks.SPRUCE_SIGN ||
-                state.getBlock() == Blocks.BIRCH_SIGN ||
-                state.getBlock() == Blocks.JUNGLE_SIGN ||
-                state.getBlock() == Blocks.ACACIA_SIGN ||
-                state.getBlock() == Blocks.DARK_OAK_SIGN ||
-                state.getBlock() == Blocks.OAK_WALL_SIGN ||
-                state.getBlock() == Blocks.SPRUCE_WALL_SIGN ||
-                state.getBlock() == Blocks.BIRCH_WALL_SIGN ||
-                state.getBlock() == Blocks.JUNGLE_WALL_SIGN ||
-                state.getBlock() == Blocks.ACACIA_WALL_SIGN ||
-                state.getBlock() == Blocks.DARK_OAK_WALL_SIGN;
+    private void cancelScan() {
+        if (activeScan != null) activeScan.cancel();
     }
 
-    private void saveCSV() {
-        if (lastSignData.isEmpty()) return;
+    private static String formatPosition(SignRecord record) {
+        return String.format("(%d, %d, %d)", record.getX(), record.getY(), record.getZ());
+    }
+
+    /**
+     * Stream the current snapshot to CSV or NDJSON, optionally gzipped, on a scan worker.
+     */
+    private void exportSigns() {
+        if (lastSignData.isEmpty() || exportRunning) return;
 
         FileChooser fileChooser = new FileChooser();
-        fileChooser.setTitle("Save Signs as CSV");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV Files", "*.csv"));
+        fileChooser.setTitle("Export Signs");
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV Files", "*.csv"),
+                new FileChooser.ExtensionFilter("Gzipped CSV Files", "*.csv.gz"),
+                new FileChooser.ExtensionFilter("NDJSON Files", "*.ndjson"),
+                new FileChooser.ExtensionFilter("Gzipped NDJSON Files", "*.ndjson.gz")
+        );
         File file = fileChooser.showSaveDialog(getScene().getWindow());
-        if (file != null) {
-            try (FileWriter writer = new FileWriter(file)) {
-                writer.write("Position,Content\n");
-                for (Map.Entry<BlockPos, String> entry : lastSignData.entrySet()) {
-                    BlockPos pos = entry.getKey();
-                    String position = String.format("(%d, %d, %d)", pos.getX(), pos.getY(), pos.getZ());
-                    writer.write("\"" + position + "\",\"" + entry.getValue().replace("\"", "\"\"") + "\"\n");
-                }
-                System.out.println("CSV saved successfully.");
-            } catch (IOException e) {
-                e.printStackTrace();
-                System.err.println("Error saving CSV: " + e.getMessage());
+        if (file == null) return;
+
+        // Add the extension of the chosen filter when the name has none.
+        String extension = fileChooser.getSelectedExtensionFilter() != null
+                ? fileChooser.getSelectedExtensionFilter().getExtensions().get(0).substring(1)
+                : ".csv";
+        if (!file.getName().contains(".")) file = new File(file.getParentFile(), file.getName() + extension);
+        ExportFormat format = ExportFormat.fromFileName(file.getName());
+        boolean gzip = ExportFormat.isGzipFileName(file.getName());
+
+        List<SignRecord> rows = lastSignData;
+        List<ExportColumn<SignRecord>> columns = List.of(
+                ExportColumn.constant("world", lastWorldName),
+                ExportColumn.constant("dimension", lastDimension),
+                ExportColumn.number("x", SignRecord::getX),
+                ExportColumn.number("y", SignRecord::getY),
+                ExportColumn.number("z", SignRecord::getZ),
+                ExportColumn.text("content", SignRecord::getText),
+                ExportColumn.text("status", record -> record.getStatus().toLowerCase()),
+                ExportColumn.timestamp("last_seen", SignRecord::getLastSeenMillis)
+        );
+
+        exportRunning = true;
+        statusLabel.setText("Exporting " + rows.size() + " signs...");
+        ResultExporter.export(rows, columns, file.toPath(), format, gzip,
+                written -> Platform.runLater(() -> {
+                    scanProgressBar.setProgress((double) written / rows.size());
+                    statusLabel.setText(String.format("Exporting... %d/%d rows", written, rows.size()));
+                }),
+                ScanScheduler.getInstance()::execute
+        ).whenComplete((result, error) -> Platform.runLater(() -> {
+            exportRunning = false;
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                cause.printStackTrace();
+                statusLabel.setText("Export failed: " + cause.getMessage());
+                return;
             }
-        }
+            statusLabel.setText(String.format("Exported %d rows to %s (%d KB, %.1f ms)", result.getRows(),
+                    result.getFile().getFileName(), result.getBytes() / 1024, result.getElapsedNanos() / 1_000_000.0));
+        }));
     }
 
     public static class SignEntry {
+        private final long packedPos;
         private final SimpleStringProperty position;
         private final SimpleStringProperty content;
+        private final SimpleStringProperty status;
+        private final SimpleStringProperty distance = new SimpleStringProperty("");
 
-        public SignEntry(String position, String content) {
+        public SignEntry(long packedPos, String position, String content, String status) {
+            this.packedPos = packedPos;
             this.position = new SimpleStringProperty(position);
             this.content = new SimpleStringProperty(content);
+            this.status = new SimpleStringProperty(status);
+        }
+
+        void updateDistance(BlockPos from) {
+            double dx = BlockPos.unpackLongX(packedPos) - from.getX();
+            double dy = BlockPos.unpackLongY(packedPos) - from.getY();
+            double dz = BlockPos.unpackLongZ(packedPos) - from.getZ();
+            distance.set(String.format("%.1f", Math.sqrt(dx * dx + dy * dy + dz * dz)));
         }
 
         public String getPosition() {
@@ -213,5 +523,21 @@ public class SignScannerPanel extends VBox {
         public SimpleStringProperty contentProperty() {
             return content;
         }
+
+        public String getStatus() {
+            return status.get();
+        }
+
+        public SimpleStringProperty statusProperty() {
+            return status;
+        }
+
+        public String getDistance() {
+            return distance.get();
+        }
+
+        public SimpleStringProperty distanceProperty() {
+            return distance;
+        }
     }
 }
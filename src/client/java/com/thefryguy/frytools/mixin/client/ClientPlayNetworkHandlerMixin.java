@@ -0,0 +1,49 @@
+package com.thefryguy.frytools.mixin.client;
+
+import com.thefryguy.frytools.client.command.CommandTreeFlattener;
+import com.thefryguy.frytools.client.perf.TpsEstimator;
+import com.thefryguy.frytools.client.scan.SignIndex;
+import net.minecraft.block.entity.SignBlockEntity;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.CommandTreeS2CPacket;
+import net.minecraft.network.packet.s2c.play.WorldTimeUpdateS2CPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ClientPlayNetworkHandler.class)
+public abstract class ClientPlayNetworkHandlerMixin {
+    /**
+     * Sign text edits arrive as block-entity update packets; TAIL is only reached on the client thread.
+     */
+    @Inject(method = "onBlockEntityUpdate", at = @At("TAIL"))
+    private void frytools$onBlockEntityUpdate(BlockEntityUpdateS2CPacket packet, CallbackInfo ci) {
+        ClientWorld world = MinecraftClient.getInstance().world;
+        if (world != null && world.getBlockEntity(packet.getPos()) instanceof SignBlockEntity sign) {
+            SignIndex.getInstance().updateSign(world, sign);
+        }
+    }
+
+    /**
+     * The dispatcher is replaced on every command tree packet; TAIL is only reached on the client thread.
+     */
+    @Inject(method = "onCommandTree", at = @At("TAIL"))
+    private void frytools$onCommandTree(CommandTreeS2CPacket packet, CallbackInfo ci) {
+        CommandTreeFlattener.getInstance().onCommandTree(((ClientPlayNetworkHandler) (Object) this).getCommandDispatcher());
+    }
+
+    /**
+     * HEAD runs first on the network thread, before the packet is handed to the client thread;
+     * timing it there keeps client frame hitches out of the TPS estimate.
+     */
+    @Inject(method = "onWorldTimeUpdate", at = @At("HEAD"))
+    private void frytools$onWorldTimeUpdate(WorldTimeUpdateS2CPacket packet, CallbackInfo ci) {
+        if (!MinecraftClient.getInstance().isOnThread()) {
+            TpsEstimator.getInstance().record(System.nanoTime(), packet.getTime());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.thefryguy.frytools.mixin.client;
+
+import com.thefryguy.frytools.client.perf.PacketCounters;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import net.minecraft.network.handler.DecoderHandler;
+import net.minecraft.network.packet.Packet;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.List;
+
+@Mixin(DecoderHandler.class)
+public abstract class DecoderHandlerMixin {
+    // Size of the frame being decoded; each handler belongs to one channel and runs on its event loop.
+    @Unique
+    private int frytools$frameBytes;
+
+    @Inject(method = "decode", at = @At("HEAD"))
+    private void frytools$beforeDecode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> objects, CallbackInfo ci) {
+        frytools$frameBytes = buf.readableBytes();
+    }
+
+    @Inject(method = "decode", at = @At("TAIL"))
+    private void frytools$afterDecode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> objects, CallbackInfo ci) {
+        PacketCounters counters = PacketCounters.getInstance();
+        long timingStart = counters.startTiming();
+        if (!objects.isEmpty() && objects.get(objects.size() - 1) instanceof Packet<?> packet) {
+            counters.recordInbound(packet.getPacketId(), frytools$frameBytes, timingStart);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.thefryguy.frytools.mixin.client;
+
+import com.thefryguy.frytools.client.perf.PacketCounters;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import net.minecraft.network.handler.EncoderHandler;
+import net.minecraft.network.packet.Packet;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(EncoderHandler.class)
+public abstract class EncoderHandlerMixin {
+    /**
+     * Netty hands the encoder a fresh buffer per packet, so what's readable at TAIL is the packet.
+     */
+    @Inject(method = "encode", at = @At("TAIL"))
+    private void frytools$afterEncode(ChannelHandlerContext ctx, Packet<?> packet, ByteBuf out, CallbackInfo ci) {
+        PacketCounters counters = PacketCounters.getInstance();
+        long timingStart = counters.startTiming();
+        counters.recordOutbound(packet.getPacketId(), out.readableBytes(), timingStart);
+    }
+}
@@ -0,0 +1,19 @@
+package com.thefryguy.frytools.mixin.client;
+
+import com.thefryguy.frytools.client.perf.FrameTimeRecorder;
+import net.minecraft.client.MinecraftClient;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(MinecraftClient.class)
+public abstract class MinecraftClientMixin {
+    /**
+     * The time between two render calls is the full frame time, including ticks and vsync waits.
+     */
+    @Inject(method = "render", at = @At("HEAD"))
+    private void frytools$onRender(boolean tick, CallbackInfo ci) {
+        FrameTimeRecorder.getInstance().onFrame(System.nanoTime());
+    }
+}
@@ -0,0 +1,67 @@
+package com.thefryguy.frytools.client.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class CommandSearchIndexTest {
+    private static final List<CommandPath> PATHS = List.of(
+            new CommandPath("gamemode", "gamemode <gamemode:gamemode>"),
+            new CommandPath("gamerule", "gamerule <rule:string>"),
+            new CommandPath("give", "give <targets:entity> <item:item_stack>"),
+            new CommandPath("tp", "tp <destination:entity>"),
+            new CommandPath("effect give", "effect give <targets:entity> <effect:resource>"),
+            new CommandPath("game", "game"),
+            new CommandPath("forgive", "forgive <targets:entity>"),
+            new CommandPath("glide over", "glide over"));
+
+    @Test
+    void ranksExactPrefixWordSubstringThenFuzzy() {
+        CommandSearchIndex index = CommandSearchIndex.build(PATHS);
+        // give, effect give, forgive, then g-i-v-e spread out in "glide over".
+        assertArrayEquals(new int[]{2, 4, 6, 7}, index.search("give"));
+    }
+
+    @Test
+    void shorterNamesFirstWithinARank() {
+        CommandSearchIndex index = CommandSearchIndex.build(PATHS);
+        assertArrayEquals(new int[]{5, 0, 1}, index.search("game"));
+        assertArrayEquals(new int[]{3, 2, 6, 4}, index.search("entity"));
+    }
+
+    @Test
+    void growingQueryPastTwoCharactersFindsSubstrings() {
+        CommandSearchIndex index = CommandSearchIndex.build(PATHS);
+        index.search("e");
+        assertArrayEquals(new int[0], index.search("en"));
+        // "en" is too short to match inside the syntax, "ent" is not.
+        assertArrayEquals(new int[]{3, 2, 6, 4}, index.search("ent"));
+        assertArrayEquals(CommandSearchIndex.build(PATHS).search("ent"), index.search("ent"));
+    }
+
+    @Test
+    void typingThroughPrefixesMatchesAFreshSearch() {
+        CommandSearchIndex index = CommandSearchIndex.build(PATHS);
+        for (String query : List.of("g", "gi", "giv", "give")) index.search(query);
+        assertArrayEquals(CommandSearchIndex.build(PATHS).search("give"), index.search("give"));
+    }
+
+    @Test
+    void fuzzyMatchesNarrowAsTheQueryGrows() {
+        CommandSearchIndex index = CommandSearchIndex.build(PATHS);
+        assertArrayEquals(new int[]{5, 0, 1}, index.search("gme"));
+        assertArrayEquals(new int[]{0}, index.search("gmem"));
+        assertArrayEquals(new int[]{0}, index.search("gmemode"));
+    }
+
+    @Test
+    void exactMatchesSurviveAfterFuzzyResults() {
+        CommandSearchIndex index = CommandSearchIndex.build(PATHS);
+        // "gl" has the exact match "glide over" plus fuzzy matches; "glid" keeps only the exact one.
+        index.search("gl");
+        index.search("gli");
+        assertArrayEquals(new int[]{7}, index.search("glid"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.thefryguy.frytools.client.coords;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoordinateLineParserTest {
+    private static final int DEFAULT_Y = 64;
+
+    @Test
+    void plainTripleIsXyz() {
+        assertParsed("120 64 -35", CoordinateSpace.WORLD, 120, 64, -35);
+        assertParsed("120, 70, -35", CoordinateSpace.WORLD, 120, 70, -35);
+    }
+
+    @Test
+    void labelsAreHonored() {
+        assertParsed("x=120, z=-35", CoordinateSpace.WORLD, 120, DEFAULT_Y, -35);
+        assertParsed("Z: -35 Y: 12 X: 120", CoordinateSpace.WORLD, 120, 12, -35);
+    }
+
+    @Test
+    void timestampedLabelledLineIgnoresTheTimestamp() {
+        assertParsed("[12:34:56] x=120 z=-35", CoordinateSpace.WORLD, 120, DEFAULT_Y, -35);
+    }
+
+    @Test
+    void timestampedTwoNumberLineUsesDefaultY() {
+        assertParsed("[12:34:56] 120 -35", CoordinateSpace.WORLD, 120, DEFAULT_Y, -35);
+    }
+
+    @Test
+    void timestampedThreeNumberLineIsXyz() {
+        assertParsed("[12:34:56] 120 70 -35", CoordinateSpace.WORLD, 120, 70, -35);
+        assertParsed("[12:34:56] x=120 y=70 z=-35", CoordinateSpace.WORLD, 120, 70, -35);
+    }
+
+    @Test
+    void regionFileName() {
+        assertParsed("r.-1.2.mca", CoordinateSpace.REGION, -1, DEFAULT_Y, 2);
+    }
+
+    @Test
+    void singleNumberIsNotACoordinate() {
+        int[] x = new int[1], y = new int[1], z = new int[1];
+        assertEquals(CoordinateConverter.NO_COORDINATES,
+                CoordinateLineParser.parse("x=120", CoordinateSpace.WORLD, DEFAULT_Y, 0, x, y, z));
+    }
+
+    private static void assertParsed(String line, CoordinateSpace space, int expectedX, int expectedY, int expectedZ) {
+        int[] x = new int[1], y = new int[1], z = new int[1];
+        assertEquals(CoordinateConverter.OK, CoordinateLineParser.parse(line, space, DEFAULT_Y, 0, x, y, z), line);
+        assertArrayEquals(new int[]{expectedX, expectedY, expectedZ}, new int[]{x[0], y[0], z[0]}, line);
+    }
+}
@@ -0,0 +1,72 @@
+package com.thefryguy.frytools.client.perf;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TpsEstimatorTest {
+    private static final long SECOND = 1_000_000_000L;
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void steadyServerRunsAtTwentyTps() {
+        TpsEstimator estimator = new TpsEstimator();
+        for (int i = 0; i < 30; i++) estimator.record(i * SECOND, 1000 + 20L * i);
+
+        double tps = estimator.estimate(29 * SECOND, TpsEstimator.CURRENT_WINDOW_NANOS);
+        assertEquals(20.0, tps, DELTA);
+        assertEquals(50.0, TpsEstimator.estimateMspt(tps), DELTA);
+    }
+
+    @Test
+    void sustainedLagShowsInTheCurrentWindowFirst() {
+        TpsEstimator estimator = new TpsEstimator();
+        long worldTime = 0;
+        for (int second = 0; second < 60; second++) {
+            estimator.record(second * SECOND, worldTime);
+            worldTime += 20;
+        }
+        // At 10 TPS the 20-tick packets arrive every two seconds.
+        for (int second = 61; second < 80; second += 2) {
+            estimator.record(second * SECOND, worldTime);
+            worldTime += 20;
+        }
+
+        double current = estimator.estimate(79 * SECOND, TpsEstimator.CURRENT_WINDOW_NANOS);
+        assertEquals(10.0, current, DELTA);
+        assertEquals(100.0, TpsEstimator.estimateMspt(current), DELTA);
+        // 40 s at 20 TPS and 20 s at 10 TPS.
+        assertEquals(1000.0 / 60, estimator.estimate(79 * SECOND, TpsEstimator.MINUTE_NANOS), DELTA);
+    }
+
+    @Test
+    void stalledServerCountsTheSilence() {
+        TpsEstimator estimator = new TpsEstimator();
+        for (int i = 0; i < 30; i++) estimator.record(i * SECOND, 20L * i);
+
+        // Seven seconds since the second-to-last packet, one 20-tick interval since then.
+        assertEquals(20.0 / 7, estimator.estimate(35 * SECOND, TpsEstimator.CURRENT_WINDOW_NANOS), DELTA);
+    }
+
+    @Test
+    void worldTimeJumpingBackStartsOver() {
+        TpsEstimator estimator = new TpsEstimator();
+        for (int i = 0; i < 10; i++) estimator.record(i * SECOND, 5000 + 20L * i);
+
+        estimator.record(10 * SECOND, 0);
+        assertEquals(1, estimator.getSampleCount());
+        assertEquals(-1.0, estimator.estimate(10 * SECOND, TpsEstimator.CURRENT_WINDOW_NANOS), DELTA);
+
+        estimator.record(11 * SECOND, 20);
+        assertEquals(20.0, estimator.estimate(11 * SECOND, TpsEstimator.CURRENT_WINDOW_NANOS), DELTA);
+    }
+
+    @Test
+    void tickRateIsCappedAtTarget() {
+        TpsEstimator estimator = new TpsEstimator();
+        // Packets bunched up after a network hiccup arrive faster than the server ticks.
+        estimator.record(0, 0);
+        estimator.record(SECOND / 2, 20);
+        assertEquals(TpsEstimator.TARGET_TPS, estimator.estimate(SECOND / 2, TpsEstimator.CURRENT_WINDOW_NANOS), DELTA);
+    }
+}
@@ -0,0 +1,47 @@
+package com.thefryguy.frytools.client.scan;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class SignTextIndexTest {
+    private static final List<String> TEXTS = List.of("costo", "stone wall", "mist", "big STOrage");
+
+    @Test
+    void shortWordsMatchTokenPrefixes() {
+        SignTextIndex index = SignTextIndex.build(TEXTS);
+        assertArrayEquals(new int[]{1, 3}, index.search("st"));
+    }
+
+    @Test
+    void longerWordsMatchSubstrings() {
+        SignTextIndex index = SignTextIndex.build(TEXTS);
+        assertArrayEquals(new int[]{0, 1, 3}, index.search("sto"));
+    }
+
+    @Test
+    void growingWordFromPrefixToSubstringFindsNewMatches() {
+        SignTextIndex index = SignTextIndex.build(TEXTS);
+        index.search("s");
+        index.search("st");
+        // "costo" never matched "st" as a token prefix, but does contain "sto".
+        assertArrayEquals(new int[]{0, 1, 3}, index.search("sto"));
+    }
+
+    @Test
+    void typingFurtherNarrowsWithinTheSameMode() {
+        SignTextIndex index = SignTextIndex.build(TEXTS);
+        index.search("sto");
+        assertArrayEquals(new int[]{1}, index.search("ston"));
+        assertArrayEquals(new int[]{1}, index.search("stone w"));
+    }
+
+    @Test
+    void secondWordGrowingToSubstringIsNotNarrowed() {
+        SignTextIndex index = SignTextIndex.build(List.of("stone all", "stone wall"));
+        assertArrayEquals(new int[]{0}, index.search("stone al"));
+        assertArrayEquals(new int[]{0, 1}, index.search("stone all"));
+    }
+}